@@ -4,32 +4,59 @@
 
 package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.ConnectException;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.URI;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -43,17 +70,42 @@ import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.AdaptiveConcurrencyLimiter;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.AdaptiveConnectTimeoutHttpClient;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.CircuitBreakerState;
 import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.ControllablePropertyEnum;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.DeltaEmissionTracker;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.DeviceTree;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.ErrorLogAggregator;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.GroupControlJob;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.DeviceCircuitBreaker;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.DevicePropertyStore;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.DeviceSnapshotStore;
 import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.MonitorPropertyEnum;
 import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.NaViSetAdministrator2SECommand;
 import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.NaViSetAdministrator2SEConstant;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.NavisetServer;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.PropertyFilter;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.RefreshTier;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.RequestHedger;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.ResponseFingerprint;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.SingleFlight;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.TreeGroupScheduler;
 import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.SystemInformation;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto.DeviceSnapshotDTO;
 import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto.InputValueDTO;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto.PingStatisticsDTO;
 import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto.VolumeValueDTO;
 import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.DynamicStatisticsDefinition;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.FleetStatisticsAggregator;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.FleetStatisticsAggregator.PowerClass;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.TemperatureAnomalyDetector;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.TemperatureAnomalyDetector.Anomaly;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -67,6 +119,21 @@ import com.avispl.symphony.dal.util.StringUtils;
  *  <li> - ProjectorProfile</li>
  *  <li> - Version</li>
  *  <li> - WebBuildNumber</li>
+ *  <li> - RequestLimiter#AverageLatency(ms)</li>
+ *  <li> - RequestLimiter#ConcurrencyLimit</li>
+ *  <li> - RequestLimiter#InFlightRequests</li>
+ *  <li> - Ping#AverageLatency(ms), Ping#Jitter(ms), Ping#Loss(%), Ping#MaxLatency(ms), Ping#MinLatency(ms), Ping#ConnectTimeout(ms) (parallel ping mode)</li>
+ *  <li> - Fleet#DevicesOnline, Fleet#DevicesStandby, Fleet#DevicesOffline</li>
+ *  <li> - Fleet#Temperature&lt;Sensor&gt;Min(C), Fleet#Temperature&lt;Sensor&gt;Avg(C), Fleet#Temperature&lt;Sensor&gt;Max(C)</li>
+ *  <li> - Fleet#CarbonSavingsTotal(kgCO2), Fleet#TimePanelUsage(hrs)</li>
+ *  <li> - DeviceInfoResponses#Total, DeviceInfoResponses#Unchanged, DeviceInfoResponses#SkipRatio(%)</li>
+ *  <li> - Servers#&lt;Server&gt;Devices (additional servers)</li>
+ *  <li> - TreeGroups#&lt;Group&gt;Devices (tree group policies)</li>
+ *  <li> - Stragglers#LastCycle, Stragglers#Total</li>
+ *  <li> - Failures#Total, Failures#&lt;Endpoint&gt; (DeviceInfo, DeviceInfoBatch, ControlData)</li>
+ *  <li> - Hedging#HedgedRequests, Hedging#HedgeWins (request hedging)</li>
+ *  <li> - GroupControl#LastAction, GroupControl#Status, GroupControl#Progress, GroupControl#Succeeded, GroupControl#Failed, GroupControl#FailedDevices</li>
+ *  <li> - GroupControl#Target, GroupControl#PowerOn, GroupControl#PowerOff, GroupControl#Input (controls targeting a tree group or a model)</li>
  *  <ul>
  *
  * General Info Aggregated Device:
@@ -103,6 +170,22 @@ import com.avispl.symphony.dal.util.StringUtils;
  * <li> - VideoInput</li>
  * <li> - PowerState</li>
  * </ul>
+ *
+ * Data Freshness Group:
+ * <ul>
+ * <li> - ControlDataAge(s)</li>
+ * <li> - DataStale</li>
+ * <li> - DeviceInfoAge(s)</li>
+ * <li> - NextRefreshIn(s)</li>
+ * <li> - Source</li>
+ * </ul>
+ *
+ * Circuit Breaker Group:
+ * <ul>
+ * <li> - ConsecutiveFailures</li>
+ * <li> - NextProbeIn(s)</li>
+ * <li> - State</li>
+ * </ul>
  * @author Harry / Symphony Dev Team<br>
  * Created on 1/15/2024
  * @since 1.0.0
@@ -112,13 +195,16 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 
 	/**
 	 * Process that is running constantly and triggers collecting data from NaViSet Administrator SE API endpoints, based on the given timeouts and thresholds.
+	 * The loader sleeps on a condition until the next devices collection cycle is due, and is woken up early when
+	 * {@link #retrieveMultipleStatistics()} signals demand or the loader is stopped. Interrupts end the loader.
 	 *
 	 * @author Harry
 	 * @since 1.0.0
 	 */
 	class NavisetDataLoader implements Runnable {
 		private volatile boolean inProgress;
-		private volatile boolean flag = false;
+		private final ReentrantLock loaderLock = new ReentrantLock();
+		private final Condition wakeUp = loaderLock.newCondition();
 
 		public NavisetDataLoader() {
 			inProgress = true;
@@ -126,47 +212,23 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 
 		@Override
 		public void run() {
-			loop:
-			while (inProgress) {
+			while (inProgress && !Thread.currentThread().isInterrupted()) {
 				try {
-					TimeUnit.MILLISECONDS.sleep(500);
+					awaitNextCycle();
 				} catch (InterruptedException e) {
-					// Ignore for now
+					Thread.currentThread().interrupt();
+					break;
 				}
-
 				if (!inProgress) {
-					break loop;
-				}
-
-				// next line will determine whether Naviset monitoring was paused
-				updateAggregatorStatus();
-				if (devicePaused) {
-					continue loop;
+					break;
 				}
 				if (logger.isDebugEnabled()) {
 					logger.debug("Fetching other than aggregated device list");
 				}
-				long currentTimestamp = System.currentTimeMillis();
-				if (!flag && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
-					populateDeviceDetails();
-					flag = true;
-				}
-
-				while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
-					try {
-						TimeUnit.MILLISECONDS.sleep(1000);
-					} catch (InterruptedException e) {
-						//
-					}
-				}
-
-				if (!inProgress) {
-					break loop;
-				}
-				if (flag) {
-					nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 30000;
-					flag = false;
-				}
+				long cycleDeadline = getCycleDeadline();
+				discoverDevices(cycleDeadline);
+				populateDeviceDetails(cycleDeadline);
+				nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + NaViSetAdministrator2SEConstant.DEVICES_COLLECTION_INTERVAL;
 
 				if (logger.isDebugEnabled()) {
 					logger.debug("Finished collecting devices statistics cycle at " + new Date());
@@ -175,11 +237,51 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 			// Finished collecting
 		}
 
+		/**
+		 * Waits until the next devices collection cycle is due and the aggregator is not paused.
+		 * While paused, the loader waits until {@link #signalDemand()} is called.
+		 *
+		 * @throws InterruptedException if the loader thread is interrupted while waiting
+		 */
+		private void awaitNextCycle() throws InterruptedException {
+			loaderLock.lockInterruptibly();
+			try {
+				while (inProgress) {
+					// next line will determine whether Naviset monitoring was paused
+					updateAggregatorStatus();
+					if (devicePaused) {
+						wakeUp.await();
+						continue;
+					}
+					long delay = nextDevicesCollectionIterationTimestamp - System.currentTimeMillis();
+					if (delay <= 0) {
+						return;
+					}
+					wakeUp.awaitNanos(TimeUnit.MILLISECONDS.toNanos(delay));
+				}
+			} finally {
+				loaderLock.unlock();
+			}
+		}
+
+		/**
+		 * Wakes up the loader, so it re-evaluates whether a devices collection cycle is due
+		 */
+		public void signalDemand() {
+			loaderLock.lock();
+			try {
+				wakeUp.signalAll();
+			} finally {
+				loaderLock.unlock();
+			}
+		}
+
 		/**
 		 * Triggers main loop to stop
 		 */
 		public void stop() {
 			inProgress = false;
+			signalDemand();
 		}
 	}
 
@@ -201,9 +303,19 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	private List<String> deviceIdList = Collections.synchronizedList(new ArrayList<>());
 
 	/**
-	 * Map of monitoring aggregated device
+	 * Store of monitoring aggregated device properties
+	 */
+	private final DevicePropertyStore cachedMonitoringDevice = new DevicePropertyStore();
+
+	/**
+	 * Fleet-wide statistics, updated whenever a device is written into {@link #cachedMonitoringDevice}
+	 */
+	private final FleetStatisticsAggregator fleetStatistics = new FleetStatisticsAggregator();
+
+	/**
+	 * Per-device temperature history, fed with every device info response
 	 */
-	private Map<String, Map<String, String>> cachedMonitoringDevice = Collections.synchronizedMap(new HashMap<>());
+	private final TemperatureAnomalyDetector temperatureAnomalyDetector = new TemperatureAnomalyDetector();
 
 	/**
 	 * A mapper for reading and writing JSON using Jackson library.
@@ -228,14 +340,77 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	private List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
 
 	/**
-	 * start index
+	 * Local timestamps of the last successful device info retrieval, per device ID
+	 */
+	private Map<String, Long> deviceInfoFetchTimestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Local timestamps of the last device info retrieval that refreshed the static identity properties, per device ID
+	 */
+	private Map<String, Long> staticFetchTimestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Local timestamps of the last device info retrieval that refreshed the settings properties, per device ID
+	 */
+	private Map<String, Long> settingsFetchTimestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Fingerprints of the last parsed telemetry response, per device ID
+	 */
+	private Map<String, Long> deviceInfoFingerprints = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of device info responses received one device at a time
+	 */
+	private final AtomicLong deviceInfoResponses = new AtomicLong();
+
+	/**
+	 * Number of device info responses that matched the previous fingerprint and were not parsed
+	 */
+	private final AtomicLong unchangedDeviceInfoResponses = new AtomicLong();
+
+	/**
+	 * Local timestamps of the last successful control data retrieval, per device ID
+	 */
+	private Map<String, Long> controlDataFetchTimestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * IDs of the devices whose cached data was restored from the snapshot and not yet refreshed from the API
+	 */
+	private Set<String> snapshotRestoredDevices = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Store persisting the cached data of each device, null when warm-start snapshots are disabled
+	 */
+	private DeviceSnapshotStore deviceSnapshotStore;
+
+	/**
+	 * Directory where device snapshots are persisted for warm-start, snapshots are disabled when empty
+	 */
+	private String snapshotDirectory;
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
 	 */
-	private int startIndex = NaViSetAdministrator2SEConstant.START_INDEX;
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
 
 	/**
-	 * end index
+	 * Circuit breakers guarding the requests of each device, per device ID
 	 */
-	private int endIndex = NaViSetAdministrator2SEConstant.NUMBER_DEVICE_IN_INTERVAL;
+	private Map<String, DeviceCircuitBreaker> deviceCircuitBreakers = new ConcurrentHashMap<>();
 
 	/**
 	 * number of threads
@@ -256,7 +431,7 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	 * this variable stores a timestamp which validates it, so when the devices' statistics is done collecting, variable
 	 * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
 	 */
-	private long nextDevicesCollectionIterationTimestamp;
+	private volatile long nextDevicesCollectionIterationTimestamp;
 
 	/**
 	 * This parameter holds timestamp of when we need to stop performing API calls
@@ -284,169 +459,913 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	/**
 	 * A JSON node containing the response from an aggregator.
 	 */
-	private JsonNode aggregatorResponse;
+	private volatile JsonNode aggregatorResponse;
 
 	/**
-	 * API Token
+	 * Local timestamp of the last successful api/about retrieval
 	 */
-	private String token;
+	private volatile long systemInfoTimestamp;
 
 	/**
-	 * Retrieves {@link #numberThreads}
+	 * Whether a background api/about refresh is queued or running
+	 */
+	private final AtomicBoolean systemInfoRefreshing = new AtomicBoolean();
+
+	/**
+	 * Executor refreshing the system information in the background
+	 */
+	private ExecutorService systemInfoExecutor;
+
+	/**
+	 * Maximum number of duplicate api/deviceinfo requests sent for slow responses, in percent of the requests.
+	 * 0 disables hedging. Control requests are never hedged.
+	 */
+	private String hedgeBudget;
+
+	/**
+	 * Hedging policy created from {@link #hedgeBudget}, null while hedging is disabled
+	 */
+	private volatile RequestHedger requestHedger;
+
+	/**
+	 * Executor sending hedged requests, sized to the maximum number of concurrent requests
+	 */
+	private ExecutorService hedgeExecutor;
+
+	/**
+	 * Retrieves {@link #hedgeBudget}
 	 *
-	 * @return value of {@link #numberThreads}
+	 * @return value of {@link #hedgeBudget}
 	 */
-	public String getNumberThreads() {
-		return numberThreads;
+	public String getHedgeBudget() {
+		return hedgeBudget;
 	}
 
 	/**
-	 * Sets {@link #numberThreads} value
+	 * Sets {@link #hedgeBudget} value
 	 *
-	 * @param numberThreads new value of {@link #numberThreads}
+	 * @param hedgeBudget new value of {@link #hedgeBudget}
 	 */
-	public void setNumberThreads(String numberThreads) {
-		this.numberThreads = numberThreads;
+	public void setHedgeBudget(String hedgeBudget) {
+		this.hedgeBudget = hedgeBudget;
 	}
 
 	/**
-	 * Configurable property for historical properties, comma separated values kept as set locally
+	 * Executor running the group controls in the background
 	 */
-	private Set<String> historicalProperties = new HashSet<>();
+	private ExecutorService groupControlExecutor;
 
 	/**
-	 * Retrieves {@link #historicalProperties}
+	 * Tree group or model targeted by the group controls
+	 */
+	private volatile String groupControlTarget;
+
+	/**
+	 * Last group control, running or completed
+	 */
+	private volatile GroupControlJob groupControlJob;
+
+	/**
+	 * Maximum number of devices controlled in parallel by a group control
+	 */
+	private String groupControlConcurrency;
+
+	/**
+	 * Number of devices powered on together by a group power on, before waiting for {@link #powerOnWaveInterval}
+	 */
+	private String powerOnWaveSize;
+
+	/**
+	 * Time in seconds between the waves of a group power on
+	 */
+	private String powerOnWaveInterval;
+
+	/**
+	 * Retrieves {@link #groupControlConcurrency}
 	 *
-	 * @return value of {@link #historicalProperties}
+	 * @return value of {@link #groupControlConcurrency}
 	 */
-	public String getHistoricalProperties() {
-		return String.join(",", this.historicalProperties);
+	public String getGroupControlConcurrency() {
+		return groupControlConcurrency;
 	}
 
 	/**
-	 * Sets {@link #historicalProperties} value
+	 * Sets {@link #groupControlConcurrency} value
 	 *
-	 * @param historicalProperties new value of {@link #historicalProperties}
+	 * @param groupControlConcurrency new value of {@link #groupControlConcurrency}
 	 */
-	public void setHistoricalProperties(String historicalProperties) {
-		this.historicalProperties.clear();
-		Arrays.asList(historicalProperties.split(",")).forEach(propertyName -> {
-			this.historicalProperties.add(propertyName.trim());
-		});
+	public void setGroupControlConcurrency(String groupControlConcurrency) {
+		this.groupControlConcurrency = groupControlConcurrency;
 	}
 
 	/**
-	 * Update the status of the device.
-	 * The device is considered as paused if did not receive any retrieveMultipleStatistics()
-	 * calls during {@link NaViSetAdministrator2SECommunicator}
+	 * Retrieves {@link #powerOnWaveSize}
+	 *
+	 * @return value of {@link #powerOnWaveSize}
 	 */
-	private synchronized void updateAggregatorStatus() {
-		devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
+	public String getPowerOnWaveSize() {
+		return powerOnWaveSize;
 	}
 
 	/**
-	 * Uptime time stamp to valid one
+	 * Sets {@link #powerOnWaveSize} value
+	 *
+	 * @param powerOnWaveSize new value of {@link #powerOnWaveSize}
 	 */
-	private synchronized void updateValidRetrieveStatisticsTimestamp() {
-		validRetrieveStatisticsTimestamp = System.currentTimeMillis() + retrieveStatisticsTimeOut;
-		updateAggregatorStatus();
+	public void setPowerOnWaveSize(String powerOnWaveSize) {
+		this.powerOnWaveSize = powerOnWaveSize;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
+	 * Retrieves {@link #powerOnWaveInterval}
 	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * @return value of {@link #powerOnWaveInterval}
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (isInitialized()) {
-			long pingResultTotal = 0L;
+	public String getPowerOnWaveInterval() {
+		return powerOnWaveInterval;
+	}
 
-			for (int i = 0; i < this.getPingAttempts(); i++) {
-				long startTime = System.currentTimeMillis();
+	/**
+	 * Sets {@link #powerOnWaveInterval} value
+	 *
+	 * @param powerOnWaveInterval new value of {@link #powerOnWaveInterval}
+	 */
+	public void setPowerOnWaveInterval(String powerOnWaveInterval) {
+		this.powerOnWaveInterval = powerOnWaveInterval;
+	}
 
-				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-					puSocketConnection.setSoTimeout(this.getPingTimeout());
-					if (puSocketConnection.isConnected()) {
-						long pingResult = System.currentTimeMillis() - startTime;
-						pingResultTotal += pingResult;
-						if (this.logger.isTraceEnabled()) {
-							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-						}
-					} else {
-						if (this.logger.isDebugEnabled()) {
-							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-						}
-						return this.getPingTimeout();
-					}
-				} catch (SocketTimeoutException | ConnectException tex) {
-					throw new SocketTimeoutException("Socket connection timed out");
-				} catch (UnknownHostException tex) {
-					throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
-				} catch (Exception e) {
-					if (this.logger.isWarnEnabled()) {
-						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-					}
-					return this.getPingTimeout();
-				}
-			}
-			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-		} else {
-			throw new IllegalStateException("Cannot use device class without calling init() first");
-		}
+	/**
+	 * API Token
+	 */
+	private volatile String token;
+
+	/**
+	 * Shares in-flight api/tree, api/about and authentication requests between concurrent callers
+	 */
+	private final SingleFlight singleFlight = new SingleFlight();
+
+	/**
+	 * Limiter adapting the number of requests in flight to the NaViSet Administrator server health
+	 */
+	private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+	/**
+	 * Latency of the last request sent by the current thread, measured once the concurrency limiter granted it a slot
+	 */
+	private final ThreadLocal<Long> requestLatency = new ThreadLocal<>();
+
+	/**
+	 * Ping mode, either sequential (default) or {@link NaViSetAdministrator2SEConstant#PARALLEL_PING_MODE}
+	 */
+	private String pingMode;
+
+	/**
+	 * Latency distribution of the last parallel ping
+	 */
+	private volatile PingStatisticsDTO pingStatistics;
+
+	/**
+	 * Whether api/deviceinfo accepts several device IDs in a single request, null until probed
+	 */
+	private volatile Boolean batchDeviceInfoSupported;
+
+	/**
+	 * Connect timeout in milliseconds derived from the latency distribution of the last parallel ping, 0 to keep the configured timeout
+	 */
+	private volatile int connectTimeout;
+
+	/**
+	 * Retrieves {@link #pingMode}
+	 *
+	 * @return value of {@link #pingMode}
+	 */
+	public String getPingMode() {
+		return pingMode;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #pingMode} value
+	 *
+	 * @param pingMode new value of {@link #pingMode}
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
-		try {
-			if (!checkValidCookieSession()) {
-				throw new FailedLoginException("Please enter valid password and username field.");
-			}
-			Map<String, String> statistics = new HashMap<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			retrieveSystemInfo();
-			populateSystemInfo(statistics);
-			extendedStatistics.setStatistics(statistics);
-			localExtendedStatistics = extendedStatistics;
-		} finally {
-			reentrantLock.unlock();
-		}
-		return Collections.singletonList(localExtendedStatistics);
+	public void setPingMode(String pingMode) {
+		this.pingMode = pingMode;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Minimum number of concurrent requests the adaptive limiter may shrink to
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		String property = controllableProperty.getProperty();
-		String deviceId = controllableProperty.getDeviceId();
-		String value = String.valueOf(controllableProperty.getValue());
+	private String minConcurrentRequests;
 
-		String[] propertyList = property.split(NaViSetAdministrator2SEConstant.HASH);
-		String propertyName = property;
-		if (property.contains(NaViSetAdministrator2SEConstant.HASH)) {
-			propertyName = propertyList[1];
-		}
-		reentrantLock.lock();
-		try {
-			Optional<AggregatedDevice> aggregatedDevice = aggregatedDeviceList.stream().filter(item -> item.getDeviceId().equals(deviceId)).findFirst();
-			if (aggregatedDevice.isPresent()) {
-				Map<String, String> stats = aggregatedDevice.get().getProperties();
-				List<AdvancedControllableProperty> advancedControllableProperties = aggregatedDevice.get().getControllableProperties();
-				ControllablePropertyEnum item = ControllablePropertyEnum.getByDefaultName(propertyName);
-				boolean controlPropagated = true;
-				switch (item) {
-					case VOLUME:
-						value = String.valueOf((int) Float.parseFloat(value));
-						sendControlCommand(deviceId, item.getCode(), propertyName, value, value);
-						stats.put(property + NaViSetAdministrator2SEConstant.CURRENT_VALUE, value);
+	/**
+	 * Maximum number of concurrent requests the adaptive limiter may grow to, defaults to the number of threads
+	 */
+	private String maxConcurrentRequests;
+
+	/**
+	 * Retrieves {@link #minConcurrentRequests}
+	 *
+	 * @return value of {@link #minConcurrentRequests}
+	 */
+	public String getMinConcurrentRequests() {
+		return minConcurrentRequests;
+	}
+
+	/**
+	 * Sets {@link #minConcurrentRequests} value
+	 *
+	 * @param minConcurrentRequests new value of {@link #minConcurrentRequests}
+	 */
+	public void setMinConcurrentRequests(String minConcurrentRequests) {
+		this.minConcurrentRequests = minConcurrentRequests;
+	}
+
+	/**
+	 * Retrieves {@link #maxConcurrentRequests}
+	 *
+	 * @return value of {@link #maxConcurrentRequests}
+	 */
+	public String getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	/**
+	 * Sets {@link #maxConcurrentRequests} value
+	 *
+	 * @param maxConcurrentRequests new value of {@link #maxConcurrentRequests}
+	 */
+	public void setMaxConcurrentRequests(String maxConcurrentRequests) {
+		this.maxConcurrentRequests = maxConcurrentRequests;
+	}
+
+	/**
+	 * Comma separated refresh policies of api/tree folders, as folder name, refresh interval in seconds and optional worker share,
+	 * such as Lobby:60:3,Back Office:3600:1. Devices outside of these folders are refreshed oldest first with a share of 1.
+	 */
+	private String treeGroupPolicies;
+
+	/**
+	 * Scheduler created from {@link #treeGroupPolicies}
+	 */
+	private volatile TreeGroupScheduler treeGroupScheduler = new TreeGroupScheduler(null);
+
+	/**
+	 * Folder paths of all devices, from the root folder down to the direct parent of the device
+	 */
+	private volatile Map<String, List<String>> deviceGroupPaths = Collections.emptyMap();
+
+	/**
+	 * Names of all devices, as shown in the api/tree
+	 */
+	private volatile Map<String, String> deviceTreeNames = Collections.emptyMap();
+
+	/**
+	 * Retrieves {@link #treeGroupPolicies}
+	 *
+	 * @return value of {@link #treeGroupPolicies}
+	 */
+	public String getTreeGroupPolicies() {
+		return treeGroupPolicies;
+	}
+
+	/**
+	 * Sets {@link #treeGroupPolicies} value
+	 *
+	 * @param treeGroupPolicies new value of {@link #treeGroupPolicies}
+	 */
+	public void setTreeGroupPolicies(String treeGroupPolicies) {
+		this.treeGroupPolicies = treeGroupPolicies;
+	}
+
+	/**
+	 * Comma separated base URLs of additional NaViSet Administrator servers aggregated next to the configured host,
+	 * such as https://emea-naviset:8443. The same credentials are used for every server.
+	 * Device IDs of a server are namespaced with its host and explicit port, such as emea-naviset:8443/12.
+	 */
+	private String additionalServers;
+
+	/**
+	 * Servers created from {@link #additionalServers}
+	 */
+	private volatile List<NavisetServer> navisetServers = Collections.emptyList();
+
+	/**
+	 * Retrieves {@link #additionalServers}
+	 *
+	 * @return value of {@link #additionalServers}
+	 */
+	public String getAdditionalServers() {
+		return additionalServers;
+	}
+
+	/**
+	 * Sets {@link #additionalServers} value
+	 *
+	 * @param additionalServers new value of {@link #additionalServers}
+	 */
+	public void setAdditionalServers(String additionalServers) {
+		this.additionalServers = additionalServers;
+	}
+
+	/**
+	 * Time in seconds after which cached system information is no longer served and api/about is requested before reporting
+	 */
+	private String systemInfoCacheTtl;
+
+	/**
+	 * Time in seconds after which cached system information is refreshed in the background, so the license status stays current
+	 */
+	private String licenseStatusCacheTtl;
+
+	/**
+	 * Retrieves {@link #systemInfoCacheTtl}
+	 *
+	 * @return value of {@link #systemInfoCacheTtl}
+	 */
+	public String getSystemInfoCacheTtl() {
+		return systemInfoCacheTtl;
+	}
+
+	/**
+	 * Sets {@link #systemInfoCacheTtl} value
+	 *
+	 * @param systemInfoCacheTtl new value of {@link #systemInfoCacheTtl}
+	 */
+	public void setSystemInfoCacheTtl(String systemInfoCacheTtl) {
+		this.systemInfoCacheTtl = systemInfoCacheTtl;
+	}
+
+	/**
+	 * Retrieves {@link #licenseStatusCacheTtl}
+	 *
+	 * @return value of {@link #licenseStatusCacheTtl}
+	 */
+	public String getLicenseStatusCacheTtl() {
+		return licenseStatusCacheTtl;
+	}
+
+	/**
+	 * Sets {@link #licenseStatusCacheTtl} value
+	 *
+	 * @param licenseStatusCacheTtl new value of {@link #licenseStatusCacheTtl}
+	 */
+	public void setLicenseStatusCacheTtl(String licenseStatusCacheTtl) {
+		this.licenseStatusCacheTtl = licenseStatusCacheTtl;
+	}
+
+	/**
+	 * Comma separated groups and properties to keep when parsing device info, everything is kept when empty
+	 */
+	private String includedProperties;
+
+	/**
+	 * Comma separated groups and properties to drop when parsing device info
+	 */
+	private String excludedProperties;
+
+	/**
+	 * Filter compiled from {@link #includedProperties} and {@link #excludedProperties}
+	 */
+	private volatile PropertyFilter propertyFilter = new PropertyFilter(null, null);
+
+	/**
+	 * Retrieves {@link #includedProperties}
+	 *
+	 * @return value of {@link #includedProperties}
+	 */
+	public String getIncludedProperties() {
+		return includedProperties;
+	}
+
+	/**
+	 * Sets {@link #includedProperties} value
+	 *
+	 * @param includedProperties new value of {@link #includedProperties}
+	 */
+	public void setIncludedProperties(String includedProperties) {
+		this.includedProperties = includedProperties;
+	}
+
+	/**
+	 * Retrieves {@link #excludedProperties}
+	 *
+	 * @return value of {@link #excludedProperties}
+	 */
+	public String getExcludedProperties() {
+		return excludedProperties;
+	}
+
+	/**
+	 * Sets {@link #excludedProperties} value
+	 *
+	 * @param excludedProperties new value of {@link #excludedProperties}
+	 */
+	public void setExcludedProperties(String excludedProperties) {
+		this.excludedProperties = excludedProperties;
+	}
+
+	/**
+	 * Interval in seconds between refreshes of the static identity properties (serial number, manufacture date, firmware...)
+	 */
+	private String staticRefreshInterval;
+
+	/**
+	 * Interval in seconds between refreshes of the settings properties (Power, Video, Geometry, Audio, OSD, ECO groups)
+	 */
+	private String settingsRefreshInterval;
+
+	/**
+	 * Retrieves {@link #staticRefreshInterval}
+	 *
+	 * @return value of {@link #staticRefreshInterval}
+	 */
+	public String getStaticRefreshInterval() {
+		return staticRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #staticRefreshInterval} value
+	 *
+	 * @param staticRefreshInterval new value of {@link #staticRefreshInterval}
+	 */
+	public void setStaticRefreshInterval(String staticRefreshInterval) {
+		this.staticRefreshInterval = staticRefreshInterval;
+	}
+
+	/**
+	 * Retrieves {@link #settingsRefreshInterval}
+	 *
+	 * @return value of {@link #settingsRefreshInterval}
+	 */
+	public String getSettingsRefreshInterval() {
+		return settingsRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #settingsRefreshInterval} value
+	 *
+	 * @param settingsRefreshInterval new value of {@link #settingsRefreshInterval}
+	 */
+	public void setSettingsRefreshInterval(String settingsRefreshInterval) {
+		this.settingsRefreshInterval = settingsRefreshInterval;
+	}
+
+	/**
+	 * Whether only the property values changed since the previous poll are emitted, "true" to enable
+	 */
+	private String deltaEmission;
+
+	/**
+	 * Interval in seconds after which a device is emitted in full again while {@link #deltaEmission} is enabled
+	 */
+	private String fullResyncInterval;
+
+	/**
+	 * Values emitted so far while {@link #deltaEmission} is enabled
+	 */
+	private final DeltaEmissionTracker deltaEmissionTracker = new DeltaEmissionTracker();
+
+	/**
+	 * Retrieves {@link #deltaEmission}
+	 *
+	 * @return value of {@link #deltaEmission}
+	 */
+	public String getDeltaEmission() {
+		return deltaEmission;
+	}
+
+	/**
+	 * Sets {@link #deltaEmission} value
+	 *
+	 * @param deltaEmission new value of {@link #deltaEmission}
+	 */
+	public void setDeltaEmission(String deltaEmission) {
+		this.deltaEmission = deltaEmission;
+	}
+
+	/**
+	 * Retrieves {@link #fullResyncInterval}
+	 *
+	 * @return value of {@link #fullResyncInterval}
+	 */
+	public String getFullResyncInterval() {
+		return fullResyncInterval;
+	}
+
+	/**
+	 * Sets {@link #fullResyncInterval} value
+	 *
+	 * @param fullResyncInterval new value of {@link #fullResyncInterval}
+	 */
+	public void setFullResyncInterval(String fullResyncInterval) {
+		this.fullResyncInterval = fullResyncInterval;
+	}
+
+	/**
+	 * Retrieves {@link #numberThreads}
+	 *
+	 * @return value of {@link #numberThreads}
+	 */
+	public String getNumberThreads() {
+		return numberThreads;
+	}
+
+	/**
+	 * Sets {@link #numberThreads} value
+	 *
+	 * @param numberThreads new value of {@link #numberThreads}
+	 */
+	public void setNumberThreads(String numberThreads) {
+		this.numberThreads = numberThreads;
+	}
+
+	/**
+	 * Age in seconds after which cached device data is considered stale
+	 */
+	private String dataStaleThreshold;
+
+	/**
+	 * Retrieves {@link #dataStaleThreshold}
+	 *
+	 * @return value of {@link #dataStaleThreshold}
+	 */
+	public String getDataStaleThreshold() {
+		return dataStaleThreshold;
+	}
+
+	/**
+	 * Sets {@link #dataStaleThreshold} value
+	 *
+	 * @param dataStaleThreshold new value of {@link #dataStaleThreshold}
+	 */
+	public void setDataStaleThreshold(String dataStaleThreshold) {
+		this.dataStaleThreshold = dataStaleThreshold;
+	}
+
+	/**
+	 * Time in seconds between summaries of repeated device request failures
+	 */
+	private String errorSummaryInterval;
+
+	/**
+	 * Deduplicates the logs of repeated device request failures and counts them
+	 */
+	private final ErrorLogAggregator errorLogAggregator = new ErrorLogAggregator(System.currentTimeMillis());
+
+	/**
+	 * Retrieves {@link #errorSummaryInterval}
+	 *
+	 * @return value of {@link #errorSummaryInterval}
+	 */
+	public String getErrorSummaryInterval() {
+		return errorSummaryInterval;
+	}
+
+	/**
+	 * Sets {@link #errorSummaryInterval} value
+	 *
+	 * @param errorSummaryInterval new value of {@link #errorSummaryInterval}
+	 */
+	public void setErrorSummaryInterval(String errorSummaryInterval) {
+		this.errorSummaryInterval = errorSummaryInterval;
+	}
+
+	/**
+	 * Time in seconds a collection cycle, device discovery included, waits for its device requests before cancelling the remaining ones
+	 */
+	private String batchDeadline;
+
+	/**
+	 * Devices whose refresh was cancelled at the batch deadline, carried over to the next collection cycle
+	 */
+	private Set<String> stragglerDevices = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Number of devices cancelled at the batch deadline of the last collection cycle
+	 */
+	private volatile int lastCycleStragglers;
+
+	/**
+	 * Number of devices cancelled at the batch deadline since the adapter started
+	 */
+	private final AtomicLong totalStragglers = new AtomicLong();
+
+	/**
+	 * Retrieves {@link #batchDeadline}
+	 *
+	 * @return value of {@link #batchDeadline}
+	 */
+	public String getBatchDeadline() {
+		return batchDeadline;
+	}
+
+	/**
+	 * Sets {@link #batchDeadline} value
+	 *
+	 * @param batchDeadline new value of {@link #batchDeadline}
+	 */
+	public void setBatchDeadline(String batchDeadline) {
+		this.batchDeadline = batchDeadline;
+	}
+
+	/**
+	 * Number of consecutive failures after which requests for a device are suspended
+	 */
+	private String circuitBreakerThreshold;
+
+	/**
+	 * Retrieves {@link #circuitBreakerThreshold}
+	 *
+	 * @return value of {@link #circuitBreakerThreshold}
+	 */
+	public String getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerThreshold} value
+	 *
+	 * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+	 */
+	public void setCircuitBreakerThreshold(String circuitBreakerThreshold) {
+		this.circuitBreakerThreshold = circuitBreakerThreshold;
+	}
+
+	/**
+	 * Maximum period in seconds between two probes of a failing device
+	 */
+	private String circuitBreakerMaxBackoff;
+
+	/**
+	 * Retrieves {@link #circuitBreakerMaxBackoff}
+	 *
+	 * @return value of {@link #circuitBreakerMaxBackoff}
+	 */
+	public String getCircuitBreakerMaxBackoff() {
+		return circuitBreakerMaxBackoff;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerMaxBackoff} value
+	 *
+	 * @param circuitBreakerMaxBackoff new value of {@link #circuitBreakerMaxBackoff}
+	 */
+	public void setCircuitBreakerMaxBackoff(String circuitBreakerMaxBackoff) {
+		this.circuitBreakerMaxBackoff = circuitBreakerMaxBackoff;
+	}
+
+	/**
+	 * Configurable property for historical properties, comma separated values kept as set locally
+	 */
+	private Set<String> historicalProperties = new HashSet<>();
+
+	/**
+	 * Retrieves {@link #historicalProperties}
+	 *
+	 * @return value of {@link #historicalProperties}
+	 */
+	public String getHistoricalProperties() {
+		return String.join(",", this.historicalProperties);
+	}
+
+	/**
+	 * Sets {@link #historicalProperties} value
+	 *
+	 * @param historicalProperties new value of {@link #historicalProperties}
+	 */
+	public void setHistoricalProperties(String historicalProperties) {
+		this.historicalProperties.clear();
+		Arrays.asList(historicalProperties.split(",")).forEach(propertyName -> {
+			this.historicalProperties.add(propertyName.trim());
+		});
+	}
+
+	/**
+	 * Update the status of the device.
+	 * The device is considered as paused if did not receive any retrieveMultipleStatistics()
+	 * calls during {@link NaViSetAdministrator2SECommunicator}
+	 */
+	private synchronized void updateAggregatorStatus() {
+		devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
+	}
+
+	/**
+	 * Uptime time stamp to valid one
+	 */
+	private synchronized void updateValidRetrieveStatisticsTimestamp() {
+		validRetrieveStatisticsTimestamp = System.currentTimeMillis() + retrieveStatisticsTimeOut;
+		updateAggregatorStatus();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (isInitialized()) {
+			if (NaViSetAdministrator2SEConstant.PARALLEL_PING_MODE.equalsIgnoreCase(pingMode)) {
+				return parallelPing();
+			}
+			long pingResultTotal = 0L;
+
+			for (int i = 0; i < this.getPingAttempts(); i++) {
+				long startTime = System.currentTimeMillis();
+
+				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
+					puSocketConnection.setSoTimeout(this.getPingTimeout());
+					if (puSocketConnection.isConnected()) {
+						long pingResult = System.currentTimeMillis() - startTime;
+						pingResultTotal += pingResult;
+						if (this.logger.isTraceEnabled()) {
+							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
+						}
+					} else {
+						if (this.logger.isDebugEnabled()) {
+							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+						}
+						return this.getPingTimeout();
+					}
+				} catch (SocketTimeoutException | ConnectException tex) {
+					throw new SocketTimeoutException("Socket connection timed out");
+				} catch (UnknownHostException tex) {
+					throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
+				} catch (Exception e) {
+					if (this.logger.isWarnEnabled()) {
+						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+					}
+					return this.getPingTimeout();
+				}
+			}
+			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
+		} else {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+	}
+
+	/**
+	 * Runs all ping attempts concurrently, bounded by a single ping timeout period, and records their latency distribution.
+	 * The connect timeout is then derived from the p95 latency, see {@link #updateConnectTimeout(PingStatisticsDTO)}.
+	 *
+	 * @return the average latency of the successful attempts
+	 * @throws Exception if none of the attempts succeeded
+	 */
+	private int parallelPing() throws Exception {
+		int attempts = Math.max(1, this.getPingAttempts());
+		List<Callable<Long>> pingTasks = new ArrayList<>();
+		for (int i = 0; i < attempts; i++) {
+			pingTasks.add(this::pingAttempt);
+		}
+		List<Long> latencies = new ArrayList<>();
+		ExecutorService pingExecutorService = Executors.newFixedThreadPool(attempts);
+		try {
+			for (Future<Long> future : pingExecutorService.invokeAll(pingTasks, this.getPingTimeout(), TimeUnit.MILLISECONDS)) {
+				if (future.isCancelled()) {
+					continue;
+				}
+				try {
+					latencies.add(future.get());
+				} catch (ExecutionException e) {
+					if (this.logger.isTraceEnabled()) {
+						this.logger.trace(String.format("PING FAILED: Attempt to connect to %s on port %s failed: %s", host, this.getPort(), e.getCause().getMessage()));
+					}
+				}
+			}
+		} finally {
+			pingExecutorService.shutdownNow();
+		}
+		PingStatisticsDTO statistics = new PingStatisticsDTO(latencies, attempts);
+		pingStatistics = statistics;
+		updateConnectTimeout(statistics);
+		if (latencies.isEmpty()) {
+			throw new SocketTimeoutException("Socket connection timed out");
+		}
+		return Math.max(1, Math.toIntExact(statistics.getAverageLatency()));
+	}
+
+	/**
+	 * Derives the connect timeout from the p95 ping latency multiplied by {@link NaViSetAdministrator2SEConstant#CONNECT_TIMEOUT_LATENCY_FACTOR},
+	 * clamped between {@link NaViSetAdministrator2SEConstant#MIN_CONNECT_TIMEOUT} and the configured timeout.
+	 * The ping only measures the TCP connect time, so the socket timeout of the requests stays the configured timeout.
+	 * The configured timeout is kept while no attempt succeeded.
+	 *
+	 * @param statistics The latency distribution of the last parallel ping.
+	 */
+	private void updateConnectTimeout(PingStatisticsDTO statistics) {
+		if (statistics.getLossPercentage() == 100) {
+			connectTimeout = 0;
+			return;
+		}
+		long timeout = statistics.getP95Latency() * NaViSetAdministrator2SEConstant.CONNECT_TIMEOUT_LATENCY_FACTOR;
+		int maxTimeout = this.getTimeout();
+		connectTimeout = (int) Math.min(maxTimeout, Math.max(NaViSetAdministrator2SEConstant.MIN_CONNECT_TIMEOUT, timeout));
+	}
+
+	/**
+	 * Retrieves the connect timeout applied to the requests sent to the configured host.
+	 *
+	 * @return the connect timeout in milliseconds
+	 */
+	private int getConnectTimeout() {
+		int timeout = connectTimeout;
+		return timeout > 0 ? timeout : this.getTimeout();
+	}
+
+	/**
+	 * Retrieves the connect timeout of a request. Only the configured host is pinged,
+	 * so requests to the additional servers keep the configured timeout.
+	 *
+	 * @param target The target host of the request.
+	 * @return the derived connect timeout in milliseconds, or 0 to keep the configured timeout
+	 */
+	private int getConnectTimeout(HttpHost target) {
+		return target.getHostName().equalsIgnoreCase(this.getHost()) ? connectTimeout : 0;
+	}
+
+	/**
+	 * Opens a socket connection to the NaViSet Administrator host.
+	 *
+	 * @return the connection latency in milliseconds
+	 * @throws IOException if the connection fails or times out
+	 */
+	private long pingAttempt() throws IOException {
+		long startTime = System.nanoTime();
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(this.host, this.getPort()), this.getPingTimeout());
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		reentrantLock.lock();
+		try {
+			if (!checkValidCookieSession()) {
+				throw new FailedLoginException("Please enter valid password and username field.");
+			}
+			Map<String, String> statistics = new HashMap<>();
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			refreshSystemInfo();
+			populateSystemInfo(statistics);
+			populateRequestLimiterStatistics(statistics);
+			populatePingStatistics(statistics);
+			populateFleetStatistics(statistics);
+			populateDeviceInfoResponseStatistics(statistics);
+			populateStragglerStatistics(statistics);
+			populateFailureStatistics(statistics);
+			populateServerStatistics(statistics);
+			populateTreeGroupStatistics(statistics);
+			populateHedgingStatistics(statistics);
+			List<AdvancedControllableProperty> groupControls = new ArrayList<>();
+			populateGroupControls(statistics, groupControls);
+			extendedStatistics.setStatistics(statistics);
+			if (!groupControls.isEmpty()) {
+				extendedStatistics.setControllableProperties(groupControls);
+			}
+			localExtendedStatistics = extendedStatistics;
+		} finally {
+			reentrantLock.unlock();
+		}
+		return Collections.singletonList(localExtendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		String property = controllableProperty.getProperty();
+		String deviceId = controllableProperty.getDeviceId();
+		String value = String.valueOf(controllableProperty.getValue());
+
+		String[] propertyList = property.split(NaViSetAdministrator2SEConstant.HASH);
+		String propertyName = property;
+		if (property.contains(NaViSetAdministrator2SEConstant.HASH)) {
+			propertyName = propertyList[1];
+		}
+		if (property.startsWith(NaViSetAdministrator2SEConstant.GROUP_CONTROL_GROUP)) {
+			controlGroup(propertyName, value);
+			return;
+		}
+		reentrantLock.lock();
+		try {
+			Optional<AggregatedDevice> aggregatedDevice = aggregatedDeviceList.stream().filter(item -> item.getDeviceId().equals(deviceId)).findFirst();
+			if (aggregatedDevice.isPresent()) {
+				Map<String, String> stats = aggregatedDevice.get().getProperties();
+				List<AdvancedControllableProperty> advancedControllableProperties = aggregatedDevice.get().getControllableProperties();
+				ControllablePropertyEnum item = ControllablePropertyEnum.getByDefaultName(propertyName);
+				boolean controlPropagated = true;
+				switch (item) {
+					case VOLUME:
+						value = String.valueOf((int) Float.parseFloat(value));
+						sendControlCommand(deviceId, item.getCode(), propertyName, value, value);
+						stats.put(property + NaViSetAdministrator2SEConstant.CURRENT_VALUE, value);
 						updateCachedValue(deviceId, property, value);
 						break;
 					case INPUT:
@@ -470,7 +1389,7 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 							//Waiting for device change status
 							Thread.sleep(1000);
 							retrieveAudioVolume(deviceId);
-							String audioValue = cachedMonitoringDevice.get(deviceId).get(audioPropertyName);
+							String audioValue = cachedMonitoringDevice.get(deviceId, audioPropertyName);
 							VolumeValueDTO volumeValue = audioVolumeValues.get(deviceId);
 							String minValue = volumeValue.getMinValue();
 							String maxValue = volumeValue.getMaxValue();
@@ -486,342 +1405,1901 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 						controlPropagated = false;
 						break;
 				}
-				if (controlPropagated) {
-					updateLocalControlValue(stats, advancedControllableProperties, property, value);
-					updateListAggregatedDevice(deviceId, stats, advancedControllableProperties);
+				if (controlPropagated) {
+					updateLocalControlValue(stats, advancedControllableProperties, property, value);
+					updateListAggregatedDevice(deviceId, stats, advancedControllableProperties);
+				}
+			} else {
+				throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
+			}
+		} finally {
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		for (ControllableProperty p : controllableProperties) {
+			try {
+				controlProperty(p);
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		return emitAggregatedDevices(collectAggregatedDevices());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
+		return emitAggregatedDevices(collectAggregatedDevices().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Starts the devices collection if needed and populates the aggregated devices from the cached data.
+	 *
+	 * @return the fully populated aggregated devices
+	 * @throws Exception if the credentials are not valid
+	 */
+	private List<AggregatedDevice> collectAggregatedDevices() throws Exception {
+		if (!checkValidCookieSession()) {
+			throw new FailedLoginException("Please enter valid password and username field.");
+		}
+		if (executorService == null) {
+			executorService = Executors.newFixedThreadPool(1);
+			executorService.submit(deviceDataLoader = new NavisetDataLoader());
+		}
+		nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
+		updateValidRetrieveStatisticsTimestamp();
+		NavisetDataLoader loader = deviceDataLoader;
+		if (loader != null) {
+			loader.signalDemand();
+		}
+		if (cachedMonitoringDevice.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return cloneAndPopulateAggregatedDeviceList();
+	}
+
+	/**
+	 * Reduces the devices to the changed property values when {@link #deltaEmission} is enabled.
+	 *
+	 * @param devices The fully populated devices.
+	 * @return the devices to emit
+	 */
+	private List<AggregatedDevice> emitAggregatedDevices(List<AggregatedDevice> devices) {
+		if (deltaEmission == null || !NaViSetAdministrator2SEConstant.TRUE.equalsIgnoreCase(deltaEmission.trim())) {
+			return devices;
+		}
+		long resyncInterval = TimeUnit.SECONDS.toMillis(parseIntConfiguration(fullResyncInterval, NaViSetAdministrator2SEConstant.DEFAULT_FULL_RESYNC_INTERVAL));
+		return deltaEmissionTracker.emit(devices, resyncInterval, System.currentTimeMillis());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+		// Naviset Administrator 2SE aggregator only require API token for each request.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+				parseIntConfiguration(minConcurrentRequests, NaViSetAdministrator2SEConstant.DEFAULT_MIN_CONCURRENT_REQUESTS),
+				parseIntConfiguration(maxConcurrentRequests, getDefaultNumberOfThread()));
+		propertyFilter = new PropertyFilter(includedProperties, excludedProperties);
+		navisetServers = createNavisetServers();
+		try {
+			treeGroupScheduler = new TreeGroupScheduler(treeGroupPolicies);
+		} catch (IllegalArgumentException e) {
+			logger.warn(String.format("Ignoring tree group policies %s: %s", treeGroupPolicies, e.getMessage()));
+			treeGroupScheduler = new TreeGroupScheduler(null);
+		}
+		systemInfoExecutor = Executors.newSingleThreadExecutor();
+		groupControlExecutor = Executors.newSingleThreadExecutor();
+		int hedgeBudgetPercent = parseIntConfiguration(hedgeBudget, NaViSetAdministrator2SEConstant.DEFAULT_HEDGE_BUDGET);
+		if (hedgeBudgetPercent > 0) {
+			requestHedger = new RequestHedger(hedgeBudgetPercent);
+			hedgeExecutor = Executors.newFixedThreadPool(Math.max(1, parseIntConfiguration(maxConcurrentRequests, getDefaultNumberOfThread())));
+		}
+		loadDeviceSnapshots();
+		executorService = Executors.newFixedThreadPool(1);
+		executorService.submit(deviceDataLoader = new NavisetDataLoader());
+		super.internalInit();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		if (deviceDataLoader != null) {
+			deviceDataLoader.stop();
+			deviceDataLoader = null;
+		}
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+		if (systemInfoExecutor != null) {
+			systemInfoExecutor.shutdownNow();
+			systemInfoExecutor = null;
+		}
+		if (groupControlExecutor != null) {
+			groupControlExecutor.shutdownNow();
+			groupControlExecutor = null;
+		}
+		groupControlTarget = null;
+		groupControlJob = null;
+		if (hedgeExecutor != null) {
+			hedgeExecutor.shutdownNow();
+			hedgeExecutor = null;
+		}
+		requestHedger = null;
+		systemInfoRefreshing.set(false);
+		aggregatorResponse = null;
+		systemInfoTimestamp = 0;
+		concurrencyLimiter = null;
+		navisetServers = Collections.emptyList();
+		deviceGroupPaths = Collections.emptyMap();
+		deviceTreeNames = Collections.emptyMap();
+		pingStatistics = null;
+		connectTimeout = 0;
+		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
+			localExtendedStatistics.getStatistics().clear();
+			localExtendedStatistics.getControllableProperties().clear();
+		}
+		nextDevicesCollectionIterationTimestamp = 0;
+		deviceIdList.clear();
+		aggregatedDeviceList.clear();
+		cachedMonitoringDevice.clear();
+		fleetStatistics.clear();
+		temperatureAnomalyDetector.clear();
+		deltaEmissionTracker.clear();
+		deviceInfoFetchTimestamps.clear();
+		deviceInfoFingerprints.clear();
+		deviceInfoResponses.set(0);
+		unchangedDeviceInfoResponses.set(0);
+		staticFetchTimestamps.clear();
+		settingsFetchTimestamps.clear();
+		controlDataFetchTimestamps.clear();
+		deviceCircuitBreakers.clear();
+		snapshotRestoredDevices.clear();
+		stragglerDevices.clear();
+		errorLogAggregator.clear();
+		lastCycleStragglers = 0;
+		totalStragglers.set(0);
+		batchDeviceInfoSupported = null;
+		deviceSnapshotStore = null;
+		super.internalDestroy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request is subject to the adaptive concurrency limit.
+	 */
+	@Override
+	public String doGet(String uri) throws Exception {
+		return executeWithConcurrencyLimit(HttpMethod.GET, uri, () -> super.doGet(uri));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request is subject to the adaptive concurrency limit.
+	 */
+	@Override
+	protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+		return executeWithConcurrencyLimit(HttpMethod.GET, uri, () -> super.doGet(uri, responseClass));
+	}
+
+	/**
+	 * Sends a read-only GET request, hedged with a duplicate request once it takes longer than the 95th percentile latency
+	 * of its endpoint and the hedge budget allows it. The first successful response is used, the other request is cancelled
+	 * if it has not been sent yet and otherwise left to complete, since an in-flight HTTP request cannot be interrupted.
+	 * The latency of every completed request is recorded, so slow losers still count towards the 95th percentile.
+	 * No hedge is sent while the concurrency limiter has no free slot, since it would only queue behind the requests in flight.
+	 *
+	 * @param endpoint The key the latencies are tracked by.
+	 * @param uri The request URI.
+	 * @return the response body
+	 * @throws Exception if every sent request failed
+	 */
+	private String doHedgedGet(String endpoint, String uri) throws Exception {
+		RequestHedger hedger = requestHedger;
+		ExecutorService executor = hedgeExecutor;
+		if (hedger == null || executor == null) {
+			return this.doGet(uri);
+		}
+		long hedgeDelay = hedger.startRequest(endpoint);
+		Callable<String> request = () -> doGetRecordingLatency(hedger, endpoint, uri);
+		if (hedgeDelay < 0) {
+			return request.call();
+		}
+		AdaptiveConcurrencyLimiter limiter = getConcurrencyLimiter(uri);
+		CompletionService<String> completionService = new ExecutorCompletionService<>(executor);
+		List<Future<String>> requests = new ArrayList<>();
+		requests.add(completionService.submit(request));
+		try {
+			Future<String> completed = completionService.poll(hedgeDelay, TimeUnit.MILLISECONDS);
+			if (completed == null && (limiter == null || limiter.hasFreeSlot()) && hedger.tryHedge()) {
+				requests.add(completionService.submit(request));
+			}
+			ExecutionException failure = null;
+			for (int pending = requests.size(); pending > 0; pending--) {
+				if (completed == null) {
+					completed = completionService.take();
+				}
+				try {
+					String response = completed.get();
+					if (completed != requests.get(0)) {
+						hedger.recordHedgeWin();
+					}
+					return response;
+				} catch (ExecutionException e) {
+					failure = e;
 				}
+				completed = null;
+			}
+			throw failure.getCause() instanceof Exception ? (Exception) failure.getCause() : failure;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw e;
+		} finally {
+			requests.forEach(future -> future.cancel(false));
+		}
+	}
+
+	/**
+	 * Sends a GET request and records its latency for hedging. The latency is measured from the moment the concurrency limiter
+	 * granted the request a slot, so time spent queueing for the limiter does not inflate the 95th percentile.
+	 *
+	 * @param hedger The request hedger to record the latency in.
+	 * @param endpoint The key the latencies are tracked by.
+	 * @param uri The request URI.
+	 * @return the response body
+	 * @throws Exception if the request fails
+	 */
+	private String doGetRecordingLatency(RequestHedger hedger, String endpoint, String uri) throws Exception {
+		long startTime = System.currentTimeMillis();
+		requestLatency.remove();
+		String response = this.doGet(uri);
+		Long latency = requestLatency.get();
+		hedger.recordLatency(endpoint, latency == null ? System.currentTimeMillis() - startTime : latency);
+		return response;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The request is subject to the adaptive concurrency limit. Control requests are never hedged.
+	 */
+	@Override
+	protected <Request, Response> Response doPut(String uri, Request request, Class<Response> responseClass) throws Exception {
+		return executeWithConcurrencyLimit(HttpMethod.PUT, uri, () -> super.doPut(uri, request, responseClass));
+	}
+
+	/**
+	 * Executes a request once the adaptive concurrency limiter grants a slot, then reports its latency and outcome.
+	 * Latencies are tracked per request variant, see {@link #getLimiterEndpoint(HttpMethod, String)}.
+	 * Authentication failures do not indicate server overload and are reported as successful round trips.
+	 * Only timeouts, connection errors and 429/503 responses are reported as failures; other errors, such as a display
+	 * the server cannot reach, and requests interrupted on shutdown release their slot without adjusting the limit.
+	 *
+	 * @param method The HTTP method of the request.
+	 * @param uri The request URI.
+	 * @param request The request to execute.
+	 * @param <T> The response type.
+	 * @return the response of the request
+	 * @throws Exception if the request fails
+	 */
+	private <T> T executeWithConcurrencyLimit(HttpMethod method, String uri, Callable<T> request) throws Exception {
+		AdaptiveConcurrencyLimiter limiter = getConcurrencyLimiter(uri);
+		if (limiter == null) {
+			return request.call();
+		}
+		String endpoint = getLimiterEndpoint(method, uri);
+		limiter.acquire();
+		long startTime = System.currentTimeMillis();
+		boolean succeeded = false;
+		boolean overloaded = false;
+		try {
+			T response = request.call();
+			succeeded = true;
+			return response;
+		} catch (FailedLoginException e) {
+			succeeded = true;
+			throw e;
+		} catch (Exception e) {
+			overloaded = isOverloadFailure(e);
+			throw e;
+		} finally {
+			long latency = System.currentTimeMillis() - startTime;
+			requestLatency.set(latency);
+			if (succeeded || (overloaded && !Thread.currentThread().isInterrupted())) {
+				limiter.release(endpoint, latency, succeeded);
 			} else {
-				throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
+				limiter.abandon();
+			}
+		}
+	}
+
+	/**
+	 * Finds the adaptive concurrency limiter of the server targeted by a request.
+	 *
+	 * @param uri The request URI.
+	 * @return the limiter of the targeted server, or null before the communicator is initialized
+	 */
+	private AdaptiveConcurrencyLimiter getConcurrencyLimiter(String uri) {
+		NavisetServer server = findServerByUrl(uri);
+		return server == null ? concurrencyLimiter : server.getLimiter();
+	}
+
+	/**
+	 * Builds the label the concurrency limiter tracks the latency of a request by: its method and path, followed by its query parameters
+	 * except the device IDs, and whether several devices are requested at once. Telemetry, full and batched device info reads,
+	 * as well as control reads and writes, thereby get their own baseline latency.
+	 *
+	 * @param method The HTTP method of the request.
+	 * @param uri The request URI, relative or absolute.
+	 * @return the endpoint label, for example {@code GET api/deviceinfo batch realtime=2 detail=0}
+	 */
+	String getLimiterEndpoint(HttpMethod method, String uri) {
+		String path = uri;
+		int schemeIndex = path.indexOf(NaViSetAdministrator2SEConstant.PROTOCOL_SEPARATOR);
+		if (schemeIndex >= 0) {
+			int pathIndex = path.indexOf(NaViSetAdministrator2SEConstant.SLASH, schemeIndex + NaViSetAdministrator2SEConstant.PROTOCOL_SEPARATOR.length());
+			path = pathIndex < 0 ? NaViSetAdministrator2SEConstant.EMPTY : path.substring(pathIndex + 1);
+		}
+		int queryIndex = path.indexOf(NaViSetAdministrator2SEConstant.QUESTION_MARK);
+		StringBuilder endpoint = new StringBuilder(method.name()).append(NaViSetAdministrator2SEConstant.SPACE).append(queryIndex < 0 ? path : path.substring(0, queryIndex));
+		if (queryIndex >= 0) {
+			for (String parameter : path.substring(queryIndex + 1).split(NaViSetAdministrator2SEConstant.AMPERSAND)) {
+				if (!parameter.startsWith(NaViSetAdministrator2SEConstant.ID_PARAMETER)) {
+					endpoint.append(NaViSetAdministrator2SEConstant.SPACE).append(parameter);
+				} else if (parameter.contains(NaViSetAdministrator2SEConstant.COMMA)) {
+					endpoint.append(NaViSetAdministrator2SEConstant.SPACE).append(NaViSetAdministrator2SEConstant.BATCH);
+				}
+			}
+		}
+		return endpoint.toString();
+	}
+
+	/**
+	 * Checks whether a failed request indicates an overloaded server: a timeout, a connection error, or a 429 or 503 response.
+	 * Other failures, such as a 500 response for a display the server cannot reach, say nothing about the load of the server.
+	 *
+	 * @param e The failure of the request.
+	 * @return true if the failure indicates an overloaded server
+	 */
+	boolean isOverloadFailure(Exception e) {
+		if (e instanceof CommandFailureException) {
+			int statusCode = ((CommandFailureException) e).getStatusCode();
+			return statusCode == NaViSetAdministrator2SEConstant.HTTP_TOO_MANY_REQUESTS || statusCode == NaViSetAdministrator2SEConstant.HTTP_SERVICE_UNAVAILABLE;
+		}
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ResourceNotReachableException || cause instanceof SocketTimeoutException || cause instanceof ConnectException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The HTTP client of the request factory is wrapped once, so requests to the configured host use the current connect timeout,
+	 * see {@link #getConnectTimeout(HttpHost)}. The request factory itself is kept, so requests still share the HTTP context of the communicator.
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		ClientHttpRequestFactory requestFactory = restTemplate.getRequestFactory();
+		if (!(requestFactory instanceof HttpComponentsClientHttpRequestFactory)
+				|| ((HttpComponentsClientHttpRequestFactory) requestFactory).getHttpClient() instanceof AdaptiveConnectTimeoutHttpClient) {
+			return restTemplate;
+		}
+		Lock writeLock = httpClientLock.writeLock();
+		writeLock.lock();
+		try {
+			HttpComponentsClientHttpRequestFactory httpRequestFactory = (HttpComponentsClientHttpRequestFactory) requestFactory;
+			HttpClient httpClient = httpRequestFactory.getHttpClient();
+			if (httpClient instanceof CloseableHttpClient && !(httpClient instanceof AdaptiveConnectTimeoutHttpClient)) {
+				httpRequestFactory.setHttpClient(new AdaptiveConnectTimeoutHttpClient((CloseableHttpClient) httpClient, this::getConnectTimeout));
+			}
+		} finally {
+			writeLock.unlock();
+		}
+		return restTemplate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * set cookie into Header of Request
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
+		NavisetServer server = findServerByUrl(uri);
+		headers.setBearerAuth(server == null ? token : server.getToken());
+		return headers;
+	}
+
+	/**
+	 * Finds the additional server targeted by a request.
+	 *
+	 * @param uri The request URI.
+	 * @return the additional server, or null if the request targets the configured host
+	 */
+	private NavisetServer findServerByUrl(String uri) {
+		if (!uri.contains(NaViSetAdministrator2SEConstant.PROTOCOL_SEPARATOR)) {
+			return null;
+		}
+		for (NavisetServer server : navisetServers) {
+			if (server.ownsUrl(uri)) {
+				return server;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the additional server a device belongs to.
+	 *
+	 * @param deviceId The device ID, namespaced for devices of additional servers.
+	 * @return the additional server, or null if the device belongs to the configured host
+	 */
+	private NavisetServer findServerByDevice(String deviceId) {
+		for (NavisetServer server : navisetServers) {
+			if (server.ownsDevice(deviceId)) {
+				return server;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Builds the URI of a device request, addressed to the server the device belongs to.
+	 *
+	 * @param command The command format, with the device ID as first parameter.
+	 * @param deviceId The device ID, namespaced for devices of additional servers.
+	 * @param parameters The other parameters of the command.
+	 * @return the request URI
+	 */
+	private String buildDeviceUri(String command, String deviceId, Object... parameters) {
+		NavisetServer server = findServerByDevice(deviceId);
+		Object[] arguments = new Object[parameters.length + 1];
+		arguments[0] = server == null ? deviceId : server.toRawDeviceId(deviceId);
+		System.arraycopy(parameters, 0, arguments, 1, parameters.length);
+		String uri = String.format(command, arguments);
+		return server == null ? uri : server.toUrl(uri);
+	}
+
+	/**
+	 * Creates the additional servers from {@link #additionalServers}, each with its own concurrency limiter.
+	 *
+	 * @return the additional servers
+	 */
+	private List<NavisetServer> createNavisetServers() {
+		if (StringUtils.isNullOrEmpty(additionalServers)) {
+			return Collections.emptyList();
+		}
+		List<NavisetServer> servers = new ArrayList<>();
+		for (String entry : additionalServers.split(NaViSetAdministrator2SEConstant.COMMA)) {
+			String baseUrl = entry.trim();
+			while (baseUrl.endsWith(NaViSetAdministrator2SEConstant.SLASH)) {
+				baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+			}
+			if (baseUrl.isEmpty()) {
+				continue;
+			}
+			if (!baseUrl.contains(NaViSetAdministrator2SEConstant.PROTOCOL_SEPARATOR)) {
+				baseUrl = getProtocol() + NaViSetAdministrator2SEConstant.PROTOCOL_SEPARATOR + baseUrl;
+			}
+			try {
+				URI uri = new URI(baseUrl);
+				String name = NavisetServer.toName(baseUrl);
+				int port = uri.getPort() < 0 ? ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80) : uri.getPort();
+				if (StringUtils.isNullOrEmpty(name) || (uri.getHost().equals(host) && port == getPort())) {
+					throw new IllegalArgumentException("Host is missing or is the configured host");
+				}
+				if (servers.stream().anyMatch(server -> server.getName().equals(name))) {
+					throw new IllegalArgumentException("Server is listed more than once");
+				}
+				servers.add(new NavisetServer(name, baseUrl, new AdaptiveConcurrencyLimiter(
+						parseIntConfiguration(minConcurrentRequests, NaViSetAdministrator2SEConstant.DEFAULT_MIN_CONCURRENT_REQUESTS),
+						parseIntConfiguration(maxConcurrentRequests, getDefaultNumberOfThread()))));
+			} catch (Exception e) {
+				logger.warn(String.format("Ignoring additional server %s: %s", entry.trim(), e.getMessage()));
+			}
+		}
+		return servers;
+	}
+
+	/**
+	 * Check API token validation
+	 * If the token expires, we send a request to get a new token
+	 * Concurrent callers share a single api/tree request and its outcome.
+	 *
+	 * @return boolean
+	 */
+	boolean checkValidCookieSession() throws Exception {
+		return singleFlight.execute(NaViSetAdministrator2SECommand.DEVICE_ID_COMMAND, () -> {
+			JsonNode response = null;
+			String usedToken = token;
+			try {
+				//Send request to check valid cookie
+				response = this.doGet(NaViSetAdministrator2SECommand.DEVICE_ID_COMMAND, JsonNode.class);
+			} catch (FailedLoginException e) {
+				if (StringUtils.isNullOrEmpty(refreshToken(usedToken))) {
+					return false;
+				}
+			}
+			if (response == null || !response.has(NaViSetAdministrator2SEConstant.DATA)) {
+				response = this.doGet(NaViSetAdministrator2SECommand.DEVICE_ID_COMMAND, JsonNode.class);
+			}
+			refreshAdditionalServers();
+			getDeviceIdList(response);
+			return true;
+		});
+	}
+
+	/**
+	 * Replaces a rejected token with a new one.
+	 * Concurrent callers share one authentication request, and callers whose token was already replaced reuse the new token.
+	 *
+	 * @param rejectedToken The token the API rejected.
+	 * @return the new token
+	 */
+	private String refreshToken(String rejectedToken) throws Exception {
+		return singleFlight.execute(NaViSetAdministrator2SECommand.LOGIN_COMMAND, () -> {
+			String currentToken = token;
+			if (StringUtils.isNotNullOrEmpty(currentToken) && !currentToken.equals(rejectedToken)) {
+				return currentToken;
+			}
+			token = getCookieSession();
+			return token;
+		});
+	}
+
+	/**
+	 * Retrieves the device tree of every additional server, authenticating again when its token was rejected.
+	 * A server that cannot be reached keeps its previous device list.
+	 */
+	private void refreshAdditionalServers() {
+		for (NavisetServer server : navisetServers) {
+			String treeUrl = server.toUrl(NaViSetAdministrator2SECommand.DEVICE_ID_COMMAND);
+			try {
+				JsonNode response;
+				try {
+					response = this.doGet(treeUrl, JsonNode.class);
+				} catch (FailedLoginException e) {
+					String rejectedToken = server.getToken();
+					singleFlight.execute(server.toUrl(NaViSetAdministrator2SECommand.LOGIN_COMMAND), () -> {
+						if (Objects.equals(server.getToken(), rejectedToken)) {
+							server.setToken(getCookieSession(server.toUrl(NaViSetAdministrator2SECommand.LOGIN_COMMAND)));
+						}
+						return server.getToken();
+					});
+					response = this.doGet(treeUrl, JsonNode.class);
+				}
+				if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA)) {
+					server.setDeviceTree(DeviceTree.parse(response.get(NaViSetAdministrator2SEConstant.DATA)));
+				}
+			} catch (Exception e) {
+				logger.warn(String.format("Unable to retrieve the device tree of %s, keeping %s known devices", server.getName(), server.getDeviceIds().size()), e);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves a token using the provided username and password
+	 *
+	 * @return the token string
+	 */
+	private String getCookieSession() throws Exception {
+		return getCookieSession(NaViSetAdministrator2SECommand.LOGIN_COMMAND);
+	}
+
+	/**
+	 * Retrieves a token from a server using the provided username and password
+	 *
+	 * @param loginUri The URI of the authentication request.
+	 * @return the token string
+	 */
+	private String getCookieSession(String loginUri) throws Exception {
+		String authenToken = NaViSetAdministrator2SEConstant.EMPTY;
+		try {
+			Map<String, String> credentials = new HashMap<>();
+			credentials.put(NaViSetAdministrator2SEConstant.NAME, this.getLogin());
+			credentials.put(NaViSetAdministrator2SEConstant.PASSWORD, this.getPassword());
+			JsonNode response = this.doPost(loginUri, credentials, JsonNode.class);
+			if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA) && response.get(NaViSetAdministrator2SEConstant.DATA).has(NaViSetAdministrator2SEConstant.TOKEN)) {
+				authenToken = response.get(NaViSetAdministrator2SEConstant.DATA).get(NaViSetAdministrator2SEConstant.TOKEN).asText();
+			}
+		} catch (Exception e) {
+			throw new FailedLoginException("Failed to retrieve the cookie for account with from username and password");
+		}
+		return authenToken;
+	}
+
+	/**
+	 * Extracts device IDs, their names and folder paths from the JSON response and populates the deviceIdList,
+	 * followed by the namespaced device IDs of the additional servers.
+	 *
+	 * @param response The JSON response containing device information.
+	 */
+	private void getDeviceIdList(JsonNode response) {
+		DeviceTree deviceTree = response.has(NaViSetAdministrator2SEConstant.DATA) ? DeviceTree.parse(response.get(NaViSetAdministrator2SEConstant.DATA))
+				: new DeviceTree(new LinkedHashMap<>(), new HashMap<>());
+		Map<String, List<String>> groupPaths = deviceTree.getGroupPaths();
+		Map<String, String> deviceNames = deviceTree.getDeviceNames();
+		for (NavisetServer server : navisetServers) {
+			groupPaths.putAll(server.getGroupPaths());
+			deviceNames.putAll(server.getDeviceNames());
+		}
+		deviceGroupPaths = groupPaths;
+		deviceTreeNames = deviceNames;
+		synchronized (deviceIdList) {
+			deviceIdList.clear();
+			deviceIdList.addAll(groupPaths.keySet());
+		}
+	}
+
+	/**
+	 * Executes an aggregator group control. Power and input controls are fanned out to every device of {@link #groupControlTarget}
+	 * in the background, only one group control runs at a time.
+	 *
+	 * @param name The name of the group control.
+	 * @param value The value of the group control.
+	 * @throws IllegalArgumentException if the control is not supported, has no target or a group control is still running
+	 */
+	private void controlGroup(String name, String value) {
+		switch (name) {
+			case NaViSetAdministrator2SEConstant.GROUP_CONTROL_TARGET:
+				if (!getGroupControlTargets(getDeviceModels()).contains(value)) {
+					throw new IllegalArgumentException(String.format("Unable to target %s: no such tree group or model", value));
+				}
+				groupControlTarget = value;
+				break;
+			case NaViSetAdministrator2SEConstant.GROUP_POWER_ON:
+				startGroupControl(ControllablePropertyEnum.POWER, NaViSetAdministrator2SEConstant.ON, deviceId -> NaViSetAdministrator2SEConstant.NUMBER_ONE, true);
+				break;
+			case NaViSetAdministrator2SEConstant.GROUP_POWER_OFF:
+				startGroupControl(ControllablePropertyEnum.POWER, NaViSetAdministrator2SEConstant.OFF, deviceId -> NaViSetAdministrator2SEConstant.ZERO, false);
+				break;
+			case NaViSetAdministrator2SEConstant.GROUP_INPUT:
+				startGroupControl(ControllablePropertyEnum.INPUT, value, deviceId -> getValueByName(videoInputValues.get(deviceId), value), false);
+				break;
+			default:
+				throw new IllegalArgumentException(String.format("Unable to execute group control %s: Not Supported", name));
+		}
+	}
+
+	/**
+	 * Starts fanning out a control to the devices of {@link #groupControlTarget}.
+	 *
+	 * @param item The controlled property.
+	 * @param label The value of the control, as displayed.
+	 * @param requestValue Function resolving the value sent to a device, {@link NaViSetAdministrator2SEConstant#NONE} if the device does not support it.
+	 * @param staggered Whether the devices are controlled in waves of {@link #powerOnWaveSize}.
+	 * @throws IllegalArgumentException if there is no device to control or a group control is still running
+	 */
+	private void startGroupControl(ControllablePropertyEnum item, String label, Function<String, String> requestValue, boolean staggered) {
+		ExecutorService executor = groupControlExecutor;
+		Map<String, String> deviceModels = getDeviceModels();
+		String target = getSelectedGroupControlTarget(getGroupControlTargets(deviceModels));
+		List<String> deviceIds = getGroupControlDevices(target, deviceModels);
+		if (executor == null || deviceIds.isEmpty()) {
+			throw new IllegalArgumentException(String.format("Unable to set %s to %s: no device to control", item.getPropertyName(), label));
+		}
+		reentrantLock.lock();
+		try {
+			GroupControlJob runningJob = groupControlJob;
+			if (runningJob != null && !runningJob.isDone()) {
+				throw new IllegalArgumentException(String.format("Unable to set %s to %s: %s is still in progress", item.getPropertyName(), label, runningJob.getAction()));
+			}
+			GroupControlJob job = new GroupControlJob(String.format("%s %s (%s)", item.getPropertyName(), label, target), deviceIds.size());
+			groupControlJob = job;
+			executor.submit(() -> runGroupControl(job, deviceIds, item, requestValue, staggered));
+		} finally {
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Fans out a control to the specified devices, with at most {@link #groupControlConcurrency} requests in parallel.
+	 * Staggered controls are sent in waves of {@link #powerOnWaveSize} devices, {@link #powerOnWaveInterval} seconds apart.
+	 *
+	 * @param job The job collecting the progress and per device results.
+	 * @param deviceIds The device IDs.
+	 * @param item The controlled property.
+	 * @param requestValue Function resolving the value sent to a device.
+	 * @param staggered Whether the devices are controlled in waves.
+	 */
+	private void runGroupControl(GroupControlJob job, List<String> deviceIds, ControllablePropertyEnum item, Function<String, String> requestValue, boolean staggered) {
+		int concurrency = Math.max(1, parseIntConfiguration(groupControlConcurrency, NaViSetAdministrator2SEConstant.DEFAULT_GROUP_CONTROL_CONCURRENCY));
+		int waveSize = staggered ? Math.max(1, parseIntConfiguration(powerOnWaveSize, NaViSetAdministrator2SEConstant.DEFAULT_POWER_ON_WAVE_SIZE)) : deviceIds.size();
+		long waveInterval = TimeUnit.SECONDS.toMillis(parseIntConfiguration(powerOnWaveInterval, NaViSetAdministrator2SEConstant.DEFAULT_POWER_ON_WAVE_INTERVAL));
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		try {
+			for (int start = 0; start < deviceIds.size(); start += waveSize) {
+				if (start > 0) {
+					Thread.sleep(waveInterval);
+				}
+				List<Future<?>> futures = new ArrayList<>();
+				for (String deviceId : deviceIds.subList(start, Math.min(start + waveSize, deviceIds.size()))) {
+					futures.add(executor.submit(() -> controlGroupDevice(job, deviceId, item, requestValue.apply(deviceId))));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.error(String.format("Error when executing group control %s", job.getAction()), e);
+		} finally {
+			executor.shutdownNow();
+			job.markDone();
+			if (logger.isInfoEnabled()) {
+				logger.info(String.format("Group control %s completed: %s succeeded, %s failed", job.getAction(), job.getSucceeded(), job.getFailed()));
+			}
+		}
+	}
+
+	/**
+	 * Sends a group control to a device and records its result.
+	 *
+	 * @param job The job collecting the per device results.
+	 * @param deviceId The device ID.
+	 * @param item The controlled property.
+	 * @param value The value sent to the device.
+	 */
+	private void controlGroupDevice(GroupControlJob job, String deviceId, ControllablePropertyEnum item, String value) {
+		if (NaViSetAdministrator2SEConstant.NONE.equalsIgnoreCase(getDefaultValueForNullData(value))) {
+			job.recordFailure(deviceId, "Not supported by the device");
+			return;
+		}
+		try {
+			sendControlCommand(deviceId, item.getCode(), item.getPropertyName(), value, value);
+			updateCachedValue(deviceId, item.getGroup() + item.getPropertyName(), value);
+			job.recordSuccess(deviceId);
+		} catch (Exception e) {
+			job.recordFailure(deviceId, e.getMessage());
+		}
+	}
+
+	/**
+	 * Retrieves the tree groups and models the group controls can target.
+	 *
+	 * @param deviceModels The model names of the cached devices, see {@link #getDeviceModels()}.
+	 * @return the sorted tree group targets, followed by the sorted model targets
+	 */
+	private List<String> getGroupControlTargets(Map<String, String> deviceModels) {
+		Set<String> groups = new TreeSet<>();
+		deviceGroupPaths.forEach((deviceId, path) -> {
+			if (cachedMonitoringDevice.contains(deviceId)) {
+				path.forEach(group -> groups.add(NaViSetAdministrator2SEConstant.TREE_GROUP_TARGET + group));
+			}
+		});
+		Set<String> models = new TreeSet<>();
+		deviceModels.values().forEach(model -> models.add(NaViSetAdministrator2SEConstant.MODEL_TARGET + model));
+		List<String> targets = new ArrayList<>(groups);
+		targets.addAll(models);
+		return targets;
+	}
+
+	/**
+	 * Retrieves the selected group control target, falling back to the first target when none was selected
+	 * or the selected one no longer exists.
+	 *
+	 * @param targets The available targets, see {@link #getGroupControlTargets(Map)}.
+	 * @return the selected target, or null if there is no target
+	 */
+	private String getSelectedGroupControlTarget(List<String> targets) {
+		String target = groupControlTarget;
+		if (target == null || !targets.contains(target)) {
+			return targets.isEmpty() ? null : targets.get(0);
+		}
+		return target;
+	}
+
+	/**
+	 * Retrieves the cached devices of a group control target.
+	 *
+	 * @param target The tree group or model target.
+	 * @param deviceModels The model names of the cached devices, see {@link #getDeviceModels()}.
+	 * @return the device IDs, in tree order
+	 */
+	private List<String> getGroupControlDevices(String target, Map<String, String> deviceModels) {
+		List<String> deviceIds = new ArrayList<>();
+		if (target == null) {
+			return deviceIds;
+		}
+		Map<String, List<String>> groupPaths = deviceGroupPaths;
+		synchronized (deviceIdList) {
+			for (String deviceId : deviceIdList) {
+				if (!cachedMonitoringDevice.contains(deviceId)) {
+					continue;
+				}
+				if (target.startsWith(NaViSetAdministrator2SEConstant.TREE_GROUP_TARGET)) {
+					if (groupPaths.getOrDefault(deviceId, Collections.emptyList()).contains(target.substring(NaViSetAdministrator2SEConstant.TREE_GROUP_TARGET.length()))) {
+						deviceIds.add(deviceId);
+					}
+				} else if (target.substring(NaViSetAdministrator2SEConstant.MODEL_TARGET.length()).equals(deviceModels.get(deviceId))) {
+					deviceIds.add(deviceId);
+				}
+			}
+		}
+		return deviceIds;
+	}
+
+	/**
+	 * Retrieves the cached model names of all devices in a single pass over the cache, so the group control targets
+	 * and their devices are resolved from the same snapshot.
+	 *
+	 * @return the model names by device ID, devices without a known model are left out
+	 */
+	private Map<String, String> getDeviceModels() {
+		Map<String, String> deviceModels = new HashMap<>();
+		for (String deviceId : cachedMonitoringDevice.getDeviceIds()) {
+			String model = getDeviceModel(deviceId);
+			if (model != null) {
+				deviceModels.put(deviceId, model);
+			}
+		}
+		return deviceModels;
+	}
+
+	/**
+	 * Retrieves the cached model name of a device, without materialising the other cached properties of the device.
+	 *
+	 * @param deviceId The device ID.
+	 * @return the model name, or null if it is unknown
+	 */
+	private String getDeviceModel(String deviceId) {
+		return cachedMonitoringDevice.findByPartialKey(deviceId, NaViSetAdministrator2SEConstant.DEVICE_MODEL);
+	}
+
+	/**
+	 * Populates the group controls and the progress of the last group control into the aggregator statistics.
+	 * Controls are only populated once there is a tree group or model to target.
+	 *
+	 * @param stats The map to populate with the group control statistics.
+	 * @param advancedControllableProperties The list to populate with the group controls.
+	 */
+	private void populateGroupControls(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		Map<String, String> deviceModels = getDeviceModels();
+		List<String> targets = getGroupControlTargets(deviceModels);
+		String target = getSelectedGroupControlTarget(targets);
+		if (target != null) {
+			String group = NaViSetAdministrator2SEConstant.GROUP_CONTROL_GROUP;
+			addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(group + NaViSetAdministrator2SEConstant.GROUP_CONTROL_TARGET,
+					targets.toArray(new String[0]), target), target);
+			addAdvancedControlProperties(advancedControllableProperties, stats,
+					createButton(group + NaViSetAdministrator2SEConstant.GROUP_POWER_ON, NaViSetAdministrator2SEConstant.ON), NaViSetAdministrator2SEConstant.EMPTY);
+			addAdvancedControlProperties(advancedControllableProperties, stats,
+					createButton(group + NaViSetAdministrator2SEConstant.GROUP_POWER_OFF, NaViSetAdministrator2SEConstant.OFF), NaViSetAdministrator2SEConstant.EMPTY);
+			Set<String> inputs = new TreeSet<>();
+			for (String deviceId : getGroupControlDevices(target, deviceModels)) {
+				List<InputValueDTO> inputValues = videoInputValues.get(deviceId);
+				if (inputValues != null) {
+					inputs.addAll(Arrays.asList(getAllNames(inputValues)));
+				}
+			}
+			if (!inputs.isEmpty()) {
+				String[] inputNames = inputs.toArray(new String[0]);
+				addAdvancedControlProperties(advancedControllableProperties, stats,
+						createDropdown(group + NaViSetAdministrator2SEConstant.GROUP_INPUT, inputNames, inputNames[0]), inputNames[0]);
+			}
+		}
+		GroupControlJob job = groupControlJob;
+		if (job != null) {
+			String group = NaViSetAdministrator2SEConstant.GROUP_CONTROL_GROUP;
+			stats.put(group + NaViSetAdministrator2SEConstant.LAST_ACTION, job.getAction());
+			stats.put(group + NaViSetAdministrator2SEConstant.STATUS, job.isDone() ? NaViSetAdministrator2SEConstant.COMPLETED : NaViSetAdministrator2SEConstant.RUNNING);
+			stats.put(group + NaViSetAdministrator2SEConstant.PROGRESS, job.getCompleted() + NaViSetAdministrator2SEConstant.SLASH + job.getTotal());
+			stats.put(group + NaViSetAdministrator2SEConstant.SUCCEEDED, String.valueOf(job.getSucceeded()));
+			stats.put(group + NaViSetAdministrator2SEConstant.FAILED, String.valueOf(job.getFailed()));
+			List<String> failedDevices = job.getFailedDevices();
+			if (!failedDevices.isEmpty()) {
+				stats.put(group + NaViSetAdministrator2SEConstant.FAILED_DEVICES, String.join(NaViSetAdministrator2SEConstant.COMMA, failedDevices));
 			}
-		} finally {
-			reentrantLock.unlock();
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the result of the last group control of the specified device.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param stats The statistics for the device.
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+	private void populateGroupControlResult(String deviceId, Map<String, String> stats) {
+		GroupControlJob job = groupControlJob;
+		String result = job == null ? null : job.getResult(deviceId);
+		if (result != null) {
+			stats.put(NaViSetAdministrator2SEConstant.GROUP_CONTROL_GROUP + NaViSetAdministrator2SEConstant.LAST_RESULT, result);
 		}
-		for (ControllableProperty p : controllableProperties) {
+	}
+
+	/**
+	 * Sends a control command to the specified device.
+	 *
+	 * @param deviceId The unique identifier of the target device.
+	 * @param code The VCP code associated with the control property.
+	 * @param name The name of the control property.
+	 * @param value The numerical value to set for the control property.
+	 * @param textValue The textual representation of the value (for error reporting).
+	 * @throws IllegalArgumentException If an error occurs during the control command execution.
+	 */
+	private void sendControlCommand(String deviceId, String code, String name, String value, String textValue) {
+		try {
+			ObjectNode body = objectMapper.createObjectNode();
+			NavisetServer server = findServerByDevice(deviceId);
+			body.put("id", server == null ? deviceId : server.toRawDeviceId(deviceId));
+			body.put("vcpcode", code);
+			body.put("vcpvalue", value);
+			String uri = server == null ? NaViSetAdministrator2SECommand.CONTROL_COMMAND : server.toUrl(NaViSetAdministrator2SECommand.CONTROL_COMMAND);
+			JsonNode response = this.doPut(uri, (JsonNode) body, JsonNode.class);
+			if (response == null || !response.has(NaViSetAdministrator2SEConstant.DATA)) {
+				throw new IllegalArgumentException("Error setting a control on the device.");
+			}
+		} catch (Exception e) {
+			throw new IllegalArgumentException(String.format("Can't control property %s with value %s", name, textValue), e);
+		}
+	}
+
+	/**
+	 * Makes sure the system information is available, serving it from cache whenever possible.
+	 * The cached information is requested synchronously only when there is none or it is older than {@link #systemInfoCacheTtl};
+	 * once it is older than {@link #licenseStatusCacheTtl} it is still served and revalidated in the background.
+	 */
+	private void refreshSystemInfo() {
+		long age = System.currentTimeMillis() - systemInfoTimestamp;
+		if (aggregatorResponse == null || age >= TimeUnit.SECONDS.toMillis(parseIntConfiguration(systemInfoCacheTtl, NaViSetAdministrator2SEConstant.DEFAULT_SYSTEM_INFO_CACHE_TTL))) {
+			retrieveSystemInfo();
+			return;
+		}
+		ExecutorService executor = systemInfoExecutor;
+		if (executor == null || age < TimeUnit.SECONDS.toMillis(parseIntConfiguration(licenseStatusCacheTtl, NaViSetAdministrator2SEConstant.DEFAULT_LICENSE_STATUS_CACHE_TTL))) {
+			return;
+		}
+		if (systemInfoRefreshing.compareAndSet(false, true)) {
 			try {
-				controlProperty(p);
+				executor.submit(() -> {
+					try {
+						retrieveSystemInfo();
+					} catch (Exception e) {
+						logger.warn("Unable to refresh system information, serving the cached values", e);
+					} finally {
+						systemInfoRefreshing.set(false);
+					}
+				});
 			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				systemInfoRefreshing.set(false);
 			}
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves system information using a GET request to the specified command.
+	 * The result is stored in the aggregatorResponse field.
+	 *
+	 * @throws IllegalArgumentException If the response does not contain the expected data field
+	 * or if there is an error during the retrieval process.
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-		if (!checkValidCookieSession()) {
-			throw new FailedLoginException("Please enter valid password and username field.");
+	private void retrieveSystemInfo() {
+		try {
+			JsonNode response = singleFlight.execute(NaViSetAdministrator2SECommand.SYSTEM_INFO_COMMAND, () -> this.doGet(NaViSetAdministrator2SECommand.SYSTEM_INFO_COMMAND, JsonNode.class));
+			if (response == null || !response.has(NaViSetAdministrator2SEConstant.DATA)) {
+				throw new IllegalArgumentException("The response is not correct.");
+			}
+			aggregatorResponse = response;
+			systemInfoTimestamp = System.currentTimeMillis();
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Error while retrieve system information" + e);
 		}
-		if (executorService == null) {
-			executorService = Executors.newFixedThreadPool(1);
-			executorService.submit(deviceDataLoader = new NavisetDataLoader());
+	}
+
+	/**
+	 * Populates the provided stats map with system information extracted from the aggregator response.
+	 * The mapping is based on the SystemInformation enum.
+	 *
+	 * @param stats The map to populate with system information.
+	 */
+	private void populateSystemInfo(Map<String, String> stats) {
+		for (SystemInformation item : SystemInformation.values()) {
+			String propertyName = item.getName();
+			String value = getDefaultValueForNullData(aggregatorResponse.get(NaViSetAdministrator2SEConstant.DATA).get(item.getValue()).asText());
+			stats.put(propertyName, value);
 		}
-		nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
-		updateValidRetrieveStatisticsTimestamp();
-		if (cachedMonitoringDevice.isEmpty()) {
-			return Collections.emptyList();
+	}
+
+	/**
+	 * Populates the adaptive concurrency limiter state into the aggregator statistics.
+	 *
+	 * @param stats The map to populate with the limiter state.
+	 */
+	private void populateRequestLimiterStatistics(Map<String, String> stats) {
+		AdaptiveConcurrencyLimiter limiter = concurrencyLimiter;
+		if (limiter == null) {
+			return;
 		}
-		return cloneAndPopulateAggregatedDeviceList();
+		String group = NaViSetAdministrator2SEConstant.REQUEST_LIMITER_GROUP;
+		stats.put(group + NaViSetAdministrator2SEConstant.CONCURRENCY_LIMIT, String.valueOf(limiter.getLimit()));
+		stats.put(group + NaViSetAdministrator2SEConstant.IN_FLIGHT_REQUESTS, String.valueOf(limiter.getInFlight()));
+		stats.put(group + NaViSetAdministrator2SEConstant.AVERAGE_LATENCY, String.valueOf(Math.round(limiter.getSmoothedLatency())));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the latency distribution of the last parallel ping into the aggregator statistics.
+	 *
+	 * @param stats The map to populate with the ping statistics.
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+	private void populatePingStatistics(Map<String, String> stats) {
+		PingStatisticsDTO statistics = pingStatistics;
+		if (statistics == null) {
+			return;
+		}
+		String group = NaViSetAdministrator2SEConstant.PING_GROUP;
+		stats.put(group + NaViSetAdministrator2SEConstant.MIN_LATENCY, String.valueOf(statistics.getMinLatency()));
+		stats.put(group + NaViSetAdministrator2SEConstant.AVERAGE_LATENCY, String.valueOf(statistics.getAverageLatency()));
+		stats.put(group + NaViSetAdministrator2SEConstant.MAX_LATENCY, String.valueOf(statistics.getMaxLatency()));
+		stats.put(group + NaViSetAdministrator2SEConstant.JITTER, String.valueOf(statistics.getJitter()));
+		stats.put(group + NaViSetAdministrator2SEConstant.PACKET_LOSS, String.valueOf(statistics.getLossPercentage()));
+		stats.put(group + NaViSetAdministrator2SEConstant.CONNECT_TIMEOUT, String.valueOf(getConnectTimeout()));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the number of devices of every additional server into the aggregator statistics.
+	 *
+	 * @param stats The map to populate with the server statistics.
 	 */
-	@Override
-	protected void authenticate() throws Exception {
-		// Naviset Administrator 2SE aggregator only require API token for each request.
+	private void populateServerStatistics(Map<String, String> stats) {
+		for (NavisetServer server : navisetServers) {
+			stats.put(NaViSetAdministrator2SEConstant.SERVERS_GROUP + server.getName() + NaViSetAdministrator2SEConstant.DEVICES, String.valueOf(server.getDeviceIds().size()));
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the number of devices cancelled at the batch deadline into the aggregator statistics.
+	 *
+	 * @param stats The map to populate with the straggler statistics.
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
+	private void populateStragglerStatistics(Map<String, String> stats) {
+		stats.put(NaViSetAdministrator2SEConstant.STRAGGLERS_GROUP + NaViSetAdministrator2SEConstant.LAST_CYCLE, String.valueOf(lastCycleStragglers));
+		stats.put(NaViSetAdministrator2SEConstant.STRAGGLERS_GROUP + NaViSetAdministrator2SEConstant.TOTAL, String.valueOf(totalStragglers.get()));
+	}
+
+	/**
+	 * Populates the number of failed device requests, in total and per endpoint, into the aggregator statistics.
+	 *
+	 * @param stats The map to populate with the failure statistics.
+	 */
+	private void populateFailureStatistics(Map<String, String> stats) {
+		stats.put(NaViSetAdministrator2SEConstant.FAILURES_GROUP + NaViSetAdministrator2SEConstant.TOTAL, String.valueOf(errorLogAggregator.getTotalFailures()));
+		errorLogAggregator.getFailureCounts().forEach((endpoint, count) -> stats.put(NaViSetAdministrator2SEConstant.FAILURES_GROUP + endpoint, String.valueOf(count)));
+	}
+
+	/**
+	 * Populates the number of hedged requests into the aggregator statistics, while hedging is enabled.
+	 *
+	 * @param stats The map to populate with the hedging statistics.
+	 */
+	private void populateHedgingStatistics(Map<String, String> stats) {
+		RequestHedger hedger = requestHedger;
+		if (hedger != null) {
+			stats.put(NaViSetAdministrator2SEConstant.HEDGING_GROUP + NaViSetAdministrator2SEConstant.HEDGED_REQUESTS, String.valueOf(hedger.getHedgedRequests()));
+			stats.put(NaViSetAdministrator2SEConstant.HEDGING_GROUP + NaViSetAdministrator2SEConstant.HEDGE_WINS, String.valueOf(hedger.getHedgeWins()));
 		}
-		executorService = Executors.newFixedThreadPool(1);
-		executorService.submit(deviceDataLoader = new NavisetDataLoader());
-		super.internalInit();
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the number of devices of every tree group with a refresh policy into the aggregator statistics.
+	 *
+	 * @param stats The map to populate with the tree group statistics.
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal destroy is called.");
+	private void populateTreeGroupStatistics(Map<String, String> stats) {
+		TreeGroupScheduler scheduler = treeGroupScheduler;
+		if (scheduler.isEmpty()) {
+			return;
 		}
-		if (deviceDataLoader != null) {
-			deviceDataLoader.stop();
-			deviceDataLoader = null;
+		Map<String, Integer> groupSizes = new TreeMap<>();
+		deviceGroupPaths.values().forEach(path -> groupSizes.merge(scheduler.resolveGroup(path), 1, Integer::sum));
+		groupSizes.forEach((group, size) -> stats.put(NaViSetAdministrator2SEConstant.TREE_GROUPS_GROUP
+				+ (group.isEmpty() ? NaViSetAdministrator2SEConstant.DEFAULT_TREE_GROUP : group) + NaViSetAdministrator2SEConstant.DEVICES, String.valueOf(size)));
+	}
+
+	/**
+	 * Populates the number of device info responses and the share of them that were unchanged and not parsed again.
+	 *
+	 * @param stats The map to populate with the response statistics.
+	 */
+	private void populateDeviceInfoResponseStatistics(Map<String, String> stats) {
+		String group = NaViSetAdministrator2SEConstant.DEVICE_INFO_RESPONSES_GROUP;
+		long total = deviceInfoResponses.get();
+		long unchanged = unchangedDeviceInfoResponses.get();
+		stats.put(group + NaViSetAdministrator2SEConstant.TOTAL, String.valueOf(total));
+		stats.put(group + NaViSetAdministrator2SEConstant.UNCHANGED, String.valueOf(unchanged));
+		stats.put(group + NaViSetAdministrator2SEConstant.SKIP_RATIO, total == 0 ? NaViSetAdministrator2SEConstant.ZERO : formatDecimal(unchanged * 100d / total));
+	}
+
+	/**
+	 * Populates the fleet-wide device counts, temperatures and totals into the aggregator statistics.
+	 * Temperatures are only reported once at least one device has provided them.
+	 *
+	 * @param stats The map to populate with the fleet statistics.
+	 */
+	private void populateFleetStatistics(Map<String, String> stats) {
+		String group = NaViSetAdministrator2SEConstant.FLEET_GROUP;
+		stats.put(group + NaViSetAdministrator2SEConstant.DEVICES_ONLINE, String.valueOf(fleetStatistics.getCount(PowerClass.ONLINE)));
+		stats.put(group + NaViSetAdministrator2SEConstant.DEVICES_STANDBY, String.valueOf(fleetStatistics.getCount(PowerClass.STANDBY)));
+		stats.put(group + NaViSetAdministrator2SEConstant.DEVICES_OFFLINE, String.valueOf(fleetStatistics.getCount(PowerClass.OFFLINE)));
+		for (DynamicStatisticsDefinition definition : DynamicStatisticsDefinition.values()) {
+			if (fleetStatistics.getTemperatureCount(definition) == 0) {
+				continue;
+			}
+			String name = group + definition.getPropertyName().replace(NaViSetAdministrator2SEConstant.TEMPERATURE_UNIT, NaViSetAdministrator2SEConstant.EMPTY);
+			stats.put(name + NaViSetAdministrator2SEConstant.MIN + NaViSetAdministrator2SEConstant.TEMPERATURE_UNIT, formatDecimal(fleetStatistics.getMinTemperature(definition)));
+			stats.put(name + NaViSetAdministrator2SEConstant.AVG + NaViSetAdministrator2SEConstant.TEMPERATURE_UNIT, formatDecimal(fleetStatistics.getAverageTemperature(definition)));
+			stats.put(name + NaViSetAdministrator2SEConstant.MAX + NaViSetAdministrator2SEConstant.TEMPERATURE_UNIT, formatDecimal(fleetStatistics.getMaxTemperature(definition)));
 		}
-		if (executorService != null) {
-			executorService.shutdownNow();
-			executorService = null;
+		stats.put(group + MonitorPropertyEnum.CARBON_SAVING.getPropertyName(), formatDecimal(fleetStatistics.getTotalCarbonSavings()));
+		stats.put(group + MonitorPropertyEnum.PANEL_HOURS_USED.getPropertyName(), formatDecimal(fleetStatistics.getTotalPanelHours()));
+	}
+
+	/**
+	 * Formats a statistic with at most two decimals.
+	 *
+	 * @param value The value to format.
+	 * @return the formatted value
+	 */
+	private String formatDecimal(double value) {
+		return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+	}
+
+	/**
+	 * Replaces the contribution of a device to the fleet statistics with its currently cached values.
+	 *
+	 * @param deviceId The identifier of the device.
+	 */
+	private void updateFleetStatistics(String deviceId) {
+		DynamicStatisticsDefinition[] definitions = DynamicStatisticsDefinition.values();
+		double[] temperatures = new double[definitions.length];
+		for (int i = 0; i < definitions.length; i++) {
+			temperatures[i] = cachedMonitoringDevice.getNumber(deviceId, definitions[i].getDefaultName());
 		}
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
+		String powerState = cachedMonitoringDevice.get(deviceId, ControllablePropertyEnum.POWER.getGroup() + ControllablePropertyEnum.POWER.getPropertyName());
+		PowerClass powerClass = PowerClass.OFFLINE;
+		if (NaViSetAdministrator2SEConstant.POWER_STATE_ON.equals(powerState)) {
+			powerClass = PowerClass.ONLINE;
+		} else if (NaViSetAdministrator2SEConstant.POWER_STATE_STANDBY.equals(powerState) || NaViSetAdministrator2SEConstant.POWER_STATE_SUSPEND.equals(powerState)) {
+			powerClass = PowerClass.STANDBY;
+		}
+		fleetStatistics.update(deviceId, powerClass, temperatures,
+				cachedMonitoringDevice.getNumber(deviceId, MonitorPropertyEnum.CARBON_SAVING.getDefaultName()),
+				cachedMonitoringDevice.getNumber(deviceId, MonitorPropertyEnum.PANEL_HOURS_USED.getDefaultName()));
+	}
+
+	/**
+	 * Feeds the latest temperatures of a device into the anomaly detector.
+	 * The model is read from the cache, since telemetry responses do not carry the static identity properties.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param timestamp The time of the response.
+	 */
+	private void updateTemperatureAnomalies(String deviceId, long timestamp) {
+		DynamicStatisticsDefinition[] definitions = DynamicStatisticsDefinition.values();
+		double[] temperatures = new double[definitions.length];
+		for (int i = 0; i < definitions.length; i++) {
+			temperatures[i] = cachedMonitoringDevice.getNumber(deviceId, definitions[i].getDefaultName());
+		}
+		temperatureAnomalyDetector.update(deviceId, getDeviceModel(deviceId), temperatures, timestamp);
+	}
+
+	/**
+	 * Populates the temperature anomalies of the specified device, relative to its own history and to the devices of the same model.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param stats The statistics for the device.
+	 */
+	private void populateTemperatureAnomalies(String deviceId, Map<String, String> stats) {
+		String group = NaViSetAdministrator2SEConstant.TEMPERATURE_ANOMALY_GROUP;
+		boolean detected = false;
+		boolean reported = false;
+		for (DynamicStatisticsDefinition definition : DynamicStatisticsDefinition.values()) {
+			Anomaly anomaly = temperatureAnomalyDetector.getAnomaly(deviceId, definition);
+			if (anomaly == null) {
+				continue;
+			}
+			reported = true;
+			detected |= anomaly != Anomaly.NONE;
+			String name = group + definition.getPropertyName().replace(NaViSetAdministrator2SEConstant.TEMPERATURE_UNIT, NaViSetAdministrator2SEConstant.EMPTY);
+			stats.put(name, anomaly.getName());
+			stats.put(name + NaViSetAdministrator2SEConstant.BASELINE + NaViSetAdministrator2SEConstant.TEMPERATURE_UNIT,
+					formatDecimal(temperatureAnomalyDetector.getBaseline(deviceId, definition)));
+			stats.put(name + NaViSetAdministrator2SEConstant.RATE + NaViSetAdministrator2SEConstant.RATE_UNIT,
+					formatDecimal(temperatureAnomalyDetector.getRate(deviceId, definition)));
+		}
+		if (reported) {
+			stats.put(group + NaViSetAdministrator2SEConstant.ANOMALY_DETECTED, detected ? NaViSetAdministrator2SEConstant.TRUE : NaViSetAdministrator2SEConstant.FALSE);
+		}
+	}
+
+	/**
+	 * Populates device details using a multithreaded approach by retrieving aggregated data for each device ID.
+	 * Each cycle picks, per server, the {@link NaViSetAdministrator2SEConstant#NUMBER_DEVICE_IN_INTERVAL} devices with the oldest data,
+	 * so devices that were never fetched or have gone stale are refreshed first. All servers share the same worker pool.
+	 * Nothing is refreshed when the device discovery of the cycle already used up the deadline.
+	 * The batch probe and the batched device info requests run as a task of the same worker pool, and the device tasks of the configured
+	 * host wait for it, so a slow batched request is bound by the deadline of the cycle like every other request.
+	 *
+	 * @param deadline The timestamp the collection cycle ends at, see {@link #getCycleDeadline()}.
+	 */
+	void populateDeviceDetails(long deadline) {
+		List<String> refreshOrder = getRefreshOrder();
+		if (refreshOrder.isEmpty() || System.currentTimeMillis() >= deadline) {
+			return;
+		}
+		int numberOfThreads = getDefaultNumberOfThread();
+		ExecutorService executorServiceForRetrieveAggregatedData = Executors.newFixedThreadPool(numberOfThreads);
+		Map<String, Future<?>> futures = new LinkedHashMap<>();
+
+		List<String> cycleDevices = selectCycleDevices(refreshOrder);
+		if (Boolean.FALSE.equals(batchDeviceInfoSupported)) {
+			for (String deviceId : cycleDevices) {
+				Future<?> future = executorServiceForRetrieveAggregatedData.submit(() -> processDeviceId(deviceId));
+				futures.put(deviceId, future);
+			}
+		} else {
+			List<String> primaryDevices = refreshOrder.stream().filter(deviceId -> findServerByDevice(deviceId) == null).collect(Collectors.toList());
+			List<String> batchDevices = new ArrayList<>();
+			long currentTimestamp = System.currentTimeMillis();
+			for (String deviceId : cycleDevices) {
+				if (findServerByDevice(deviceId) != null) {
+					futures.put(deviceId, executorServiceForRetrieveAggregatedData.submit(() -> processDeviceId(deviceId)));
+				} else if (getCircuitBreaker(deviceId).canAttempt(currentTimestamp)) {
+					batchDevices.add(deviceId);
+				}
+			}
+			Set<String> failedBatchDevices = new HashSet<>();
+			Future<Set<String>> batch = executorServiceForRetrieveAggregatedData.submit(() -> {
+				if (batchDeviceInfoSupported == null && primaryDevices.size() > 1) {
+					batchDeviceInfoSupported = probeBatchDeviceInfo(primaryDevices.subList(0, 2));
+				}
+				return Boolean.TRUE.equals(batchDeviceInfoSupported) ? retrieveDeviceInfoBatch(batchDevices, failedBatchDevices) : null;
+			});
+			for (String deviceId : batchDevices) {
+				futures.put(deviceId, executorServiceForRetrieveAggregatedData.submit(() -> {
+					Set<String> retrievedDevices = batch.get();
+					if (retrievedDevices == null) {
+						processDeviceId(deviceId);
+						return null;
+					}
+					DeviceCircuitBreaker circuitBreaker = getCircuitBreaker(deviceId);
+					if (circuitBreaker.allowRequest(System.currentTimeMillis())) {
+						completeDeviceRefresh(deviceId, circuitBreaker, retrievedDevices.contains(deviceId)
+								|| (failedBatchDevices.contains(deviceId) && retrieveDeviceInfo(deviceId)));
+					}
+					return null;
+				}));
+			}
+		}
+		waitForFutures(futures, executorServiceForRetrieveAggregatedData, deadline);
+		logFailureSummaries();
+	}
+
+	/**
+	 * Logs a failed device request. The first failure of a device, endpoint and exception type is logged on a single line,
+	 * with the stack trace only for the first one of the endpoint and exception type in each summary interval.
+	 * Repeated failures are counted and summarized by {@link #logFailureSummaries()}.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param endpoint The endpoint label.
+	 * @param message The log message.
+	 * @param e The failure.
+	 */
+	private void logDeviceFailure(String deviceId, String endpoint, String message, Exception e) {
+		switch (errorLogAggregator.recordFailure(deviceId, endpoint, e)) {
+			case STACK_TRACE:
+				logger.error(message, e);
+				break;
+			case SINGLE_LINE:
+				logger.error(String.format("%s: %s", message, e.getMessage()));
+				break;
+			default:
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("%s: %s", message, e.getMessage()));
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Logs the summaries of the repeated device request failures, once every {@link #errorSummaryInterval} seconds.
+	 */
+	private void logFailureSummaries() {
+		long interval = TimeUnit.SECONDS.toMillis(parseIntConfiguration(errorSummaryInterval, NaViSetAdministrator2SEConstant.DEFAULT_ERROR_SUMMARY_INTERVAL));
+		for (String summary : errorLogAggregator.drainSummaries(interval, System.currentTimeMillis())) {
+			logger.warn(summary);
+		}
+	}
+
+	/**
+	 * Publishes the devices that are not cached yet, such as every device after a cold start without snapshots, with their tree name
+	 * and power state only. The power states are requested in parallel for all of these devices within the batch deadline,
+	 * so every display is reported within seconds; their full details are then filled in by the regular collection cycles.
+	 *
+	 * @param deadline The timestamp the collection cycle ends at, shared with {@link #populateDeviceDetails(long)}.
+	 */
+	void discoverDevices(long deadline) {
+		List<String> newDevices = getRefreshOrder();
+		newDevices.removeIf(deviceId -> cachedMonitoringDevice.contains(deviceId));
+		if (newDevices.isEmpty()) {
+			return;
+		}
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		newDevices.forEach(deviceId -> tasks.add(() -> discoverDevice(deviceId)));
+		int parallelism = Math.min(newDevices.size(), Math.max(1, parseIntConfiguration(maxConcurrentRequests, getDefaultNumberOfThread())));
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		int discovered = 0;
+		try {
+			for (Future<Boolean> future : executor.invokeAll(tasks, Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+				if (!future.isCancelled() && future.get()) {
+					discovered++;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.error("An exception occurred while discovering devices.", e);
+		} finally {
+			executor.shutdownNow();
+		}
+		if (logger.isInfoEnabled()) {
+			logger.info(String.format("Retrieved the power state of %s out of %s new devices", discovered, newDevices.size()));
+		}
+	}
+
+	/**
+	 * Caches the tree name and power state of a new device, so it is reported before its full details are retrieved.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @return true if the power state was retrieved
+	 */
+	private boolean discoverDevice(String deviceId) {
+		Map<String, String> basicInfo = new HashMap<>();
+		String deviceName = deviceTreeNames.get(deviceId);
+		if (deviceName != null) {
+			basicInfo.put(NaViSetAdministrator2SEConstant.DEVICE_NAME, deviceName);
+		}
+		String powerProperty = ControllablePropertyEnum.POWER.getGroup() + ControllablePropertyEnum.POWER.getPropertyName();
+		try {
+			JsonNode response = this.doGet(buildDeviceUri(NaViSetAdministrator2SECommand.CONTROL_DATA_COMMAND, deviceId, ControllablePropertyEnum.POWER.getCode()), JsonNode.class);
+			errorLogAggregator.recordSuccess(deviceId, getControlDataEndpoint(ControllablePropertyEnum.POWER));
+			if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA) && response.get(NaViSetAdministrator2SEConstant.DATA).has(NaViSetAdministrator2SEConstant.CONTROL)) {
+				basicInfo.put(powerProperty, response.get(NaViSetAdministrator2SEConstant.DATA).get(NaViSetAdministrator2SEConstant.CONTROL).get(NaViSetAdministrator2SEConstant.VCP_VALUE).asText());
+			}
+		} catch (Exception e) {
+			logDeviceFailure(deviceId, getControlDataEndpoint(ControllablePropertyEnum.POWER), String.format("Error when retrieve %s with id %s", ControllablePropertyEnum.POWER.getPropertyName(), deviceId), e);
+		}
+		if (!basicInfo.isEmpty()) {
+			putMapIntoCachedData(deviceId, basicInfo);
+		}
+		return basicInfo.containsKey(powerProperty);
+	}
+
+	/**
+	 * Picks the devices of a collection cycle: up to {@link NaViSetAdministrator2SEConstant#NUMBER_DEVICE_IN_INTERVAL} due devices
+	 * of every server, shared between its tree groups by {@link TreeGroupScheduler}, so each server is scheduled independently
+	 * of the size of the others. The picked devices are interleaved between servers and groups, so they are swept in parallel.
+	 *
+	 * @param refreshOrder The device IDs in the order they are due for refresh.
+	 * @return the device IDs to refresh in this cycle
+	 */
+	private List<String> selectCycleDevices(List<String> refreshOrder) {
+		Map<String, List<String>> serverDevices = new LinkedHashMap<>();
+		for (String deviceId : refreshOrder) {
+			NavisetServer server = findServerByDevice(deviceId);
+			serverDevices.computeIfAbsent(server == null ? NaViSetAdministrator2SEConstant.EMPTY : server.getName(), key -> new ArrayList<>()).add(deviceId);
+		}
+		TreeGroupScheduler scheduler = treeGroupScheduler;
+		Map<String, List<String>> groupPaths = deviceGroupPaths;
+		long currentTimestamp = System.currentTimeMillis();
+		List<List<String>> selections = new ArrayList<>();
+		for (List<String> devices : serverDevices.values()) {
+			selections.add(scheduler.select(devices, deviceId -> groupPaths.getOrDefault(deviceId, Collections.emptyList()), this::getScheduleTimestamp,
+					NaViSetAdministrator2SEConstant.NUMBER_DEVICE_IN_INTERVAL, currentTimestamp));
+		}
+		List<String> cycleDevices = new ArrayList<>();
+		for (int i = 0; i < NaViSetAdministrator2SEConstant.NUMBER_DEVICE_IN_INTERVAL; i++) {
+			for (List<String> selection : selections) {
+				if (i < selection.size()) {
+					cycleDevices.add(selection.get(i));
+				}
+			}
+		}
+		return cycleDevices;
+	}
+
+	/**
+	 * Computes the deadline of a collection cycle starting now. Device discovery and the device refresh share it,
+	 * so a whole cycle takes at most {@link #batchDeadline} seconds.
+	 *
+	 * @return the timestamp the collection cycle ends at
+	 */
+	long getCycleDeadline() {
+		return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(parseIntConfiguration(batchDeadline, NaViSetAdministrator2SEConstant.DEFAULT_BATCH_DEADLINE));
+	}
+
+	/**
+	 * Orders the known device IDs by the age of their cached data, oldest first.
+	 * Devices that were never fetched come before all others, devices with an open circuit breaker are left out.
+	 *
+	 * @return device IDs in the order they are due for refresh
+	 */
+	private List<String> getRefreshOrder() {
+		List<String> refreshOrder;
+		synchronized (deviceIdList) {
+			refreshOrder = new ArrayList<>(deviceIdList);
 		}
-		nextDevicesCollectionIterationTimestamp = 0;
-		deviceIdList.clear();
-		aggregatedDeviceList.clear();
-		cachedMonitoringDevice.clear();
-		super.internalDestroy();
+		long currentTimestamp = System.currentTimeMillis();
+		refreshOrder.removeIf(deviceId -> {
+			DeviceCircuitBreaker circuitBreaker = deviceCircuitBreakers.get(deviceId);
+			return circuitBreaker != null && !circuitBreaker.canAttempt(currentTimestamp);
+		});
+		refreshOrder.sort(Comparator.comparingLong(this::getScheduleTimestamp));
+		return refreshOrder;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * set cookie into Header of Request
+	 * Retrieves the timestamp a device is scheduled by. Stragglers of the previous cycle are scheduled as if they were never fetched,
+	 * so they are carried over to the next cycle regardless of the refresh interval of their tree group.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @return the oldest fetch timestamp, or 0 for stragglers and devices that were never fetched
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
-		headers.setBearerAuth(token);
-		return headers;
+	private long getScheduleTimestamp(String deviceId) {
+		return stragglerDevices.contains(deviceId) ? 0 : getOldestFetchTimestamp(deviceId);
 	}
 
 	/**
-	 * Check API token validation
-	 * If the token expires, we send a request to get a new token
+	 * Retrieves the older of the device info and control data fetch timestamps of a device.
 	 *
-	 * @return boolean
+	 * @param deviceId The identifier of the device.
+	 * @return the oldest fetch timestamp, or 0 if any data class was never fetched
 	 */
-	private boolean checkValidCookieSession() throws Exception {
-		JsonNode response = null;
-		try {
-			//Send request to check valid cookie
-			response = this.doGet(NaViSetAdministrator2SECommand.DEVICE_ID_COMMAND, JsonNode.class);
-		} catch (FailedLoginException e) {
-			token = getCookieSession();
-			if (StringUtils.isNullOrEmpty(token)) {
-				return false;
-			}
-		}
-		if (response == null || !response.has(NaViSetAdministrator2SEConstant.DATA)) {
-			response = this.doGet(NaViSetAdministrator2SECommand.DEVICE_ID_COMMAND, JsonNode.class);
-		}
-		getDeviceIdList(response);
-		return true;
+	private long getOldestFetchTimestamp(String deviceId) {
+		return Math.min(deviceInfoFetchTimestamps.getOrDefault(deviceId, 0L), controlDataFetchTimestamps.getOrDefault(deviceId, 0L));
 	}
 
 	/**
-	 * Retrieves a token using the provided username and password
+	 * Waits for the completion of the device futures until the deadline of the collection cycle, then shuts down the executor service.
+	 * Devices still running at the deadline are stragglers: their futures are cancelled, their data is reported as stale
+	 * and they are carried over to the front of the next collection cycle. A straggler whose circuit breaker probe never completed
+	 * counts as a failed probe, otherwise its breaker would stay half-open and the device would never be polled again.
+	 * If the waiting thread is interrupted, the pending tasks are cancelled and the interrupt status is restored.
 	 *
-	 * @return the token string
+	 * @param futures The futures of the collection cycle, keyed by device ID.
+	 * @param executorService The ExecutorService to be shut down.
+	 * @param deadline The timestamp the collection cycle ends at.
 	 */
-	private String getCookieSession() throws Exception {
-		String authenToken = NaViSetAdministrator2SEConstant.EMPTY;
-		try {
-			Map<String, String> credentials = new HashMap<>();
-			credentials.put(NaViSetAdministrator2SEConstant.NAME, this.getLogin());
-			credentials.put(NaViSetAdministrator2SEConstant.PASSWORD, this.getPassword());
-			JsonNode response = this.doPost(NaViSetAdministrator2SECommand.LOGIN_COMMAND, credentials, JsonNode.class);
-			if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA) && response.get(NaViSetAdministrator2SEConstant.DATA).has(NaViSetAdministrator2SEConstant.TOKEN)) {
-				authenToken = response.get(NaViSetAdministrator2SEConstant.DATA).get(NaViSetAdministrator2SEConstant.TOKEN).asText();
+	private void waitForFutures(Map<String, Future<?>> futures, ExecutorService executorService, long deadline) {
+		List<String> stragglers = new ArrayList<>();
+		for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+			Future<?> future = entry.getValue();
+			try {
+				future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				futures.values().forEach(pending -> pending.cancel(true));
+				executorService.shutdownNow();
+				Thread.currentThread().interrupt();
+				return;
+			} catch (TimeoutException e) {
+				future.cancel(true);
+				stragglers.add(entry.getKey());
+			} catch (CancellationException e) {
+				stragglers.add(entry.getKey());
+			} catch (Exception e) {
+				logger.error("An exception occurred while waiting for a future to complete.", e);
+			}
+		}
+		long currentTimestamp = System.currentTimeMillis();
+		for (String deviceId : stragglers) {
+			DeviceCircuitBreaker circuitBreaker = deviceCircuitBreakers.get(deviceId);
+			if (circuitBreaker != null) {
+				circuitBreaker.abandonProbe(currentTimestamp);
+			}
+		}
+		stragglerDevices.addAll(stragglers);
+		lastCycleStragglers = stragglers.size();
+		totalStragglers.addAndGet(stragglers.size());
+		if (stragglers.isEmpty()) {
+			executorService.shutdown();
+		} else {
+			executorService.shutdownNow();
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Batch deadline reached, carrying over %s devices to the next cycle: %s", stragglers.size(), stragglers));
 			}
-		} catch (Exception e) {
-			throw new FailedLoginException("Failed to retrieve the cookie for account with from username and password");
 		}
-		return authenToken;
 	}
 
 	/**
-	 * Extracts device IDs from the JSON response and populates the deviceIdList.
+	 * Processes the specified device ID by retrieving and handling tab data for the device.
+	 * Requests are only sent when the device circuit breaker allows it; control data is skipped
+	 * when the device info request fails, and the outcome of the device info request is recorded on the breaker.
 	 *
-	 * @param response The JSON response containing device information.
+	 * @param deviceId The ID of the device to be processed.
 	 */
-	private void getDeviceIdList(JsonNode response) {
-		deviceIdList.clear();
-		if (!response.has(NaViSetAdministrator2SEConstant.DATA)) {
+	private void processDeviceId(String deviceId) {
+		DeviceCircuitBreaker circuitBreaker = getCircuitBreaker(deviceId);
+		if (!circuitBreaker.allowRequest(System.currentTimeMillis())) {
 			return;
 		}
-		for (JsonNode item : response.get(NaViSetAdministrator2SEConstant.DATA)) {
-			if (item.has(NaViSetAdministrator2SEConstant.DEVICE_ID) && !NaViSetAdministrator2SEConstant.ZERO.equals(item.get(NaViSetAdministrator2SEConstant.DEVICE_ID).asText())) {
-				deviceIdList.add(item.get(NaViSetAdministrator2SEConstant.DEVICE_ID).asText());
+		completeDeviceRefresh(deviceId, circuitBreaker, retrieveDeviceInfo(deviceId));
+	}
+
+	/**
+	 * Records the outcome of the device info request on the circuit breaker and, when it succeeded, retrieves the control data
+	 * and saves the device snapshot.
+	 *
+	 * @param deviceId The ID of the device.
+	 * @param circuitBreaker The circuit breaker of the device.
+	 * @param deviceInfoRetrieved Whether the device info was retrieved.
+	 */
+	private void completeDeviceRefresh(String deviceId, DeviceCircuitBreaker circuitBreaker, boolean deviceInfoRetrieved) {
+		if (deviceInfoRetrieved) {
+			circuitBreaker.recordSuccess();
+			retrieveControlData(deviceId);
+			snapshotRestoredDevices.remove(deviceId);
+			stragglerDevices.remove(deviceId);
+			saveDeviceSnapshot(deviceId);
+		} else {
+			circuitBreaker.recordFailure(System.currentTimeMillis());
+			if (circuitBreaker.getState() == CircuitBreakerState.OPEN && logger.isWarnEnabled()) {
+				logger.warn(String.format("Device %s failed %s consecutive times, requests are suspended until %s", deviceId, circuitBreaker.getConsecutiveFailures(),
+						new Date(circuitBreaker.getOpenUntil())));
 			}
 		}
 	}
 
 	/**
-	 * Sends a control command to the specified device.
-	 *
-	 * @param deviceId The unique identifier of the target device.
-	 * @param code The VCP code associated with the control property.
-	 * @param name The name of the control property.
-	 * @param value The numerical value to set for the control property.
-	 * @param textValue The textual representation of the value (for error reporting).
-	 * @throws IllegalArgumentException If an error occurs during the control command execution.
+	 * Loads the persisted device snapshots into the cache, so the last known values are reported right after a restart.
+	 * The restored fetch timestamps keep the data age, so restored devices are reported as stale and refreshed first.
+	 * Properties rejected by the current {@link #propertyFilter} are dropped, since the snapshot may predate the filter.
 	 */
-	private void sendControlCommand(String deviceId, String code, String name, String value, String textValue) {
+	private void loadDeviceSnapshots() {
+		if (StringUtils.isNullOrEmpty(snapshotDirectory)) {
+			return;
+		}
 		try {
-			ObjectNode body = objectMapper.createObjectNode();
-			body.put("id", deviceId);
-			body.put("vcpcode", code);
-			body.put("vcpvalue", value);
-			JsonNode response = this.doPut(NaViSetAdministrator2SECommand.CONTROL_COMMAND, (JsonNode) body, JsonNode.class);
-			if (response == null || !response.has(NaViSetAdministrator2SEConstant.DATA)) {
-				throw new IllegalArgumentException("Error setting a control on the device.");
+			deviceSnapshotStore = new DeviceSnapshotStore(Paths.get(snapshotDirectory.trim()), objectMapper);
+			List<DeviceSnapshotDTO> snapshots = deviceSnapshotStore.loadAll(System.currentTimeMillis() - NaViSetAdministrator2SEConstant.SNAPSHOT_MAX_AGE);
+			for (DeviceSnapshotDTO snapshot : snapshots) {
+				String deviceId = snapshot.getDeviceId();
+				if (snapshot.getProperties() != null) {
+					Map<String, String> properties = new HashMap<>();
+					snapshot.getProperties().forEach((key, value) -> {
+						if (propertyFilter.accept(key)) {
+							properties.put(key, value);
+						}
+					});
+					cachedMonitoringDevice.restore(deviceId, properties);
+					updateFleetStatistics(deviceId);
+				}
+				if (snapshot.getInputValues() != null) {
+					videoInputValues.put(deviceId, snapshot.getInputValues());
+				}
+				if (snapshot.getVolumeValue() != null) {
+					audioVolumeValues.put(deviceId, snapshot.getVolumeValue());
+				}
+				if (snapshot.getDeviceInfoTimestamp() != null) {
+					deviceInfoFetchTimestamps.put(deviceId, snapshot.getDeviceInfoTimestamp());
+				}
+				if (snapshot.getControlDataTimestamp() != null) {
+					controlDataFetchTimestamps.put(deviceId, snapshot.getControlDataTimestamp());
+				}
+				snapshotRestoredDevices.add(deviceId);
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Restored %s devices from snapshot directory %s", snapshots.size(), snapshotDirectory));
 			}
 		} catch (Exception e) {
-			throw new IllegalArgumentException(String.format("Can't control property %s with value %s", name, textValue), e);
+			logger.error(String.format("Unable to load device snapshots from %s", snapshotDirectory), e);
 		}
 	}
 
 	/**
-	 * Retrieves system information using a GET request to the specified command.
-	 * The result is stored in the aggregatorResponse field.
+	 * Persists the cached data of the specified device, if warm-start snapshots are enabled.
 	 *
-	 * @throws IllegalArgumentException If the response does not contain the expected data field
-	 * or if there is an error during the retrieval process.
+	 * @param deviceId The identifier of the device.
 	 */
-	private void retrieveSystemInfo() {
+	private void saveDeviceSnapshot(String deviceId) {
+		DeviceSnapshotStore store = deviceSnapshotStore;
+		if (store == null) {
+			return;
+		}
+		Map<String, String> properties = cachedMonitoringDevice.toMap(deviceId);
+		if (properties == null) {
+			return;
+		}
+		DeviceSnapshotDTO snapshot = new DeviceSnapshotDTO();
+		snapshot.setDeviceId(deviceId);
+		snapshot.setSavedAt(System.currentTimeMillis());
+		snapshot.setDeviceInfoTimestamp(deviceInfoFetchTimestamps.get(deviceId));
+		snapshot.setControlDataTimestamp(controlDataFetchTimestamps.get(deviceId));
+		snapshot.setProperties(properties);
+		snapshot.setInputValues(videoInputValues.get(deviceId));
+		snapshot.setVolumeValue(audioVolumeValues.get(deviceId));
 		try {
-			aggregatorResponse = this.doGet(NaViSetAdministrator2SECommand.SYSTEM_INFO_COMMAND, JsonNode.class);
-			if (!aggregatorResponse.has(NaViSetAdministrator2SEConstant.DATA)) {
-				throw new IllegalArgumentException("The response is not correct.");
-			}
+			store.save(snapshot);
 		} catch (Exception e) {
-			throw new IllegalArgumentException("Error while retrieve system information" + e);
+			logger.error(String.format("Unable to save the snapshot of device %s", deviceId), e);
 		}
 	}
 
 	/**
-	 * Populates the provided stats map with system information extracted from the aggregator response.
-	 * The mapping is based on the SystemInformation enum.
+	 * Retrieves the circuit breaker of the specified device, creating it with the configured thresholds if needed.
 	 *
-	 * @param stats The map to populate with system information.
+	 * @param deviceId The identifier of the device.
+	 * @return the device circuit breaker
 	 */
-	private void populateSystemInfo(Map<String, String> stats) {
-		for (SystemInformation item : SystemInformation.values()) {
-			String propertyName = item.getName();
-			String value = getDefaultValueForNullData(aggregatorResponse.get(NaViSetAdministrator2SEConstant.DATA).get(item.getValue()).asText());
-			stats.put(propertyName, value);
-		}
+	DeviceCircuitBreaker getCircuitBreaker(String deviceId) {
+		return deviceCircuitBreakers.computeIfAbsent(deviceId, id -> new DeviceCircuitBreaker(
+				parseIntConfiguration(circuitBreakerThreshold, NaViSetAdministrator2SEConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD),
+				NaViSetAdministrator2SEConstant.CIRCUIT_BREAKER_INITIAL_BACKOFF,
+				TimeUnit.SECONDS.toMillis(parseIntConfiguration(circuitBreakerMaxBackoff, NaViSetAdministrator2SEConstant.DEFAULT_CIRCUIT_BREAKER_MAX_BACKOFF))));
 	}
 
 	/**
-	 * Populates device details using a multithreaded approach by retrieving aggregated data for each device ID.
-	 * The number of threads is set to 8, and a thread pool is utilized to parallelize the retrieval process.
-	 * The results are printed to the console, and the thread pool is shutdown upon completion.
+	 * Retrieves device information for the specified device ID using the given command.
+	 * The retrieved information is processed and stored in the cachedMonitoringDevice store.
+	 * While neither the settings nor the static identity properties are due, the cheaper realtime telemetry query is used,
+	 * and a telemetry response whose fingerprint matches the previous one is not parsed again, only LastRefresh is updated.
+	 *
+	 * @param deviceId The ID of the device for which information is to be retrieved.
+	 * @return true if the device information was retrieved
 	 */
-	private void populateDeviceDetails() {
-		int numberOfThreads = getDefaultNumberOfThread();
-		ExecutorService executorServiceForRetrieveAggregatedData = Executors.newFixedThreadPool(numberOfThreads);
-		List<Future<?>> futures = new ArrayList<>();
-
-		if (endIndex > deviceIdList.size()) {
-			endIndex = deviceIdList.size();
-		}
-		synchronized (deviceIdList) {
-			for (int i = startIndex; i < endIndex; i++) {
-				int index = i;
-				Future<?> future = executorServiceForRetrieveAggregatedData.submit(() -> processDeviceId(deviceIdList.get(index)));
-				futures.add(future);
+	private boolean retrieveDeviceInfo(String deviceId) {
+		try {
+			long fetchTimestamp = System.currentTimeMillis();
+			boolean fullRefresh = isFullDeviceInfoDue(deviceId, fetchTimestamp);
+			String command = fullRefresh ? NaViSetAdministrator2SECommand.DEVICE_INFO_COMMAND : NaViSetAdministrator2SECommand.DEVICE_TELEMETRY_COMMAND;
+			String body = doHedgedGet(command, buildDeviceUri(command, deviceId));
+			if (StringUtils.isNullOrEmpty(body)) {
+				return false;
 			}
+			errorLogAggregator.recordSuccess(deviceId, NaViSetAdministrator2SEConstant.DEVICE_INFO_ENDPOINT);
+			deviceInfoResponses.incrementAndGet();
+			if (fullRefresh) {
+				deviceInfoFingerprints.remove(deviceId);
+			} else {
+				long fingerprint = ResponseFingerprint.fingerprint(body, NaViSetAdministrator2SEConstant.TIME);
+				Long previousFingerprint = deviceInfoFingerprints.put(deviceId, fingerprint);
+				String time = ResponseFingerprint.extractField(body, NaViSetAdministrator2SEConstant.TIME);
+				if (previousFingerprint != null && previousFingerprint == fingerprint && time != null && cachedMonitoringDevice.contains(deviceId)) {
+					unchangedDeviceInfoResponses.incrementAndGet();
+					updateCachedValue(deviceId, NaViSetAdministrator2SEConstant.LAST_REFRESH, time);
+					deviceInfoFetchTimestamps.put(deviceId, fetchTimestamp);
+					return true;
+				}
+			}
+			JsonNode response = objectMapper.readTree(body);
+			if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA) && updateDeviceInfo(deviceId, response.get(NaViSetAdministrator2SEConstant.DATA), fetchTimestamp)) {
+				return true;
+			}
+			deviceInfoFingerprints.remove(deviceId);
+		} catch (Exception e) {
+			deviceInfoFingerprints.remove(deviceId);
+			logDeviceFailure(deviceId, NaViSetAdministrator2SEConstant.DEVICE_INFO_ENDPOINT, String.format("Error when retrieve device info by id %s", deviceId), e);
 		}
-		waitForFutures(futures, executorServiceForRetrieveAggregatedData);
-		executorServiceForRetrieveAggregatedData.shutdown();
-		if (endIndex == deviceIdList.size()) {
-			startIndex = NaViSetAdministrator2SEConstant.START_INDEX;
-			endIndex = NaViSetAdministrator2SEConstant.NUMBER_DEVICE_IN_INTERVAL;
-		} else {
-			startIndex = endIndex;
-			endIndex += NaViSetAdministrator2SEConstant.NUMBER_DEVICE_IN_INTERVAL;
-		}
+		return false;
 	}
 
 	/**
-	 * Waits for the completion of all futures in the provided list and then shuts down the executor service.
+	 * Retrieves device information of several devices with one request per query variant.
+	 * Only used once {@link #probeBatchDeviceInfo(List)} confirmed the server answers multiple IDs with an array of device entries.
+	 * When a batched request fails or is not answered with a data array, its devices are collected so they are requested one by one,
+	 * instead of failing every device of the batch at once.
+	 * Batched requests are hedged like single device info requests, with the latencies of each query variant tracked separately.
 	 *
-	 * @param futures The list of Future objects representing asynchronous tasks.
-	 * @param executorService The ExecutorService to be shut down.
-	 */
-	private void waitForFutures(List<Future<?>> futures, ExecutorService executorService) {
-		for (Future<?> future : futures) {
+	 * @param deviceIds The IDs of the devices.
+	 * @param failedDevices The set collecting the IDs of the devices whose batched request failed.
+	 * @return the IDs of the devices whose information was retrieved
+	 */
+	Set<String> retrieveDeviceInfoBatch(List<String> deviceIds, Set<String> failedDevices) {
+		Set<String> retrievedDevices = new HashSet<>();
+		long fetchTimestamp = System.currentTimeMillis();
+		Map<Boolean, List<String>> devicesByVariant = deviceIds.stream().collect(Collectors.partitioningBy(deviceId -> isFullDeviceInfoDue(deviceId, fetchTimestamp)));
+		devicesByVariant.forEach((fullRefresh, ids) -> {
+			if (ids.isEmpty()) {
+				return;
+			}
+			String command = fullRefresh ? NaViSetAdministrator2SECommand.DEVICE_INFO_COMMAND : NaViSetAdministrator2SECommand.DEVICE_TELEMETRY_COMMAND;
 			try {
-				future.get();
+				String body = doHedgedGet(command + NaViSetAdministrator2SEConstant.SPACE + NaViSetAdministrator2SEConstant.BATCH,
+						String.format(command, String.join(NaViSetAdministrator2SEConstant.COMMA, ids)));
+				JsonNode response = StringUtils.isNullOrEmpty(body) ? null : objectMapper.readTree(body);
+				if (response == null || !response.has(NaViSetAdministrator2SEConstant.DATA) || !response.get(NaViSetAdministrator2SEConstant.DATA).isArray()) {
+					failedDevices.addAll(ids);
+					return;
+				}
+				errorLogAggregator.recordSuccess(NaViSetAdministrator2SEConstant.EMPTY, NaViSetAdministrator2SEConstant.DEVICE_INFO_BATCH_ENDPOINT);
+				for (JsonNode entry : response.get(NaViSetAdministrator2SEConstant.DATA)) {
+					String deviceId = entry.has(NaViSetAdministrator2SEConstant.DEVICE_ID) ? entry.get(NaViSetAdministrator2SEConstant.DEVICE_ID).asText() : null;
+					if (deviceId != null && ids.contains(deviceId) && updateDeviceInfo(deviceId, entry, fetchTimestamp)) {
+						retrievedDevices.add(deviceId);
+					}
+				}
 			} catch (Exception e) {
-				logger.error("An exception occurred while waiting for a future to complete.", e);
+				failedDevices.addAll(ids);
+				logDeviceFailure(NaViSetAdministrator2SEConstant.EMPTY, NaViSetAdministrator2SEConstant.DEVICE_INFO_BATCH_ENDPOINT, String.format("Error when retrieve device info by ids %s", ids), e);
+			}
+		});
+		return retrievedDevices;
+	}
+
+	/**
+	 * Checks whether api/deviceinfo accepts several device IDs in a single request.
+	 * The server is asked for the telemetry of two devices, batching is only used if both come back as entries of a data array.
+	 *
+	 * @param deviceIds Two known device IDs.
+	 * @return true if batched device info requests are supported
+	 */
+	boolean probeBatchDeviceInfo(List<String> deviceIds) {
+		boolean supported = false;
+		try {
+			JsonNode response = this.doGet(String.format(NaViSetAdministrator2SECommand.DEVICE_TELEMETRY_COMMAND, String.join(NaViSetAdministrator2SEConstant.COMMA, deviceIds)), JsonNode.class);
+			if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA) && response.get(NaViSetAdministrator2SEConstant.DATA).isArray()) {
+				Set<String> returnedIds = new HashSet<>();
+				for (JsonNode entry : response.get(NaViSetAdministrator2SEConstant.DATA)) {
+					if (entry.has(NaViSetAdministrator2SEConstant.DEVICE_ID) && entry.has(NaViSetAdministrator2SEConstant.TABLES)) {
+						returnedIds.add(entry.get(NaViSetAdministrator2SEConstant.DEVICE_ID).asText());
+					}
+				}
+				supported = returnedIds.containsAll(deviceIds);
+			}
+		} catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Batched device info request is not supported", e);
 			}
 		}
-		executorService.shutdown();
+		if (logger.isInfoEnabled()) {
+			logger.info(String.format("Batched device info retrieval is %s", supported ? "supported, devices are requested in batches" : "not supported, devices are requested one by one"));
+		}
+		return supported;
 	}
 
 	/**
-	 * Processes the specified device ID by retrieving and handling tab data for the device.
-	 * This method prints the device ID to the console, removes cached data for the device,
-	 * and retrieves information based on the device tabs using corresponding commands.
+	 * Checks whether a device info retrieval has to use the full query, because the settings or static identity properties are due.
 	 *
-	 * @param deviceId The ID of the device to be processed.
+	 * @param deviceId The ID of the device.
+	 * @param now The current time.
+	 * @return true if the full query has to be used
 	 */
-	private void processDeviceId(String deviceId) {
-		retrieveDeviceInfo(deviceId);
-		retrieveControlData(deviceId);
+	private boolean isFullDeviceInfoDue(String deviceId, long now) {
+		return isRefreshDue(staticFetchTimestamps, deviceId, staticRefreshInterval, NaViSetAdministrator2SEConstant.DEFAULT_STATIC_REFRESH_INTERVAL, now)
+				|| isRefreshDue(settingsFetchTimestamps, deviceId, settingsRefreshInterval, NaViSetAdministrator2SEConstant.DEFAULT_SETTINGS_REFRESH_INTERVAL, now);
 	}
 
 	/**
-	 * Retrieves device information for the specified device ID using the given command.
-	 * The retrieved information is processed and stored in the cachedMonitoringDevice map.
+	 * Processes the device info of a device and stores it in the cachedMonitoringDevice store.
+	 * Telemetry is always updated, settings and static identity properties only once their refresh interval has elapsed.
+	 * Properties rejected by the {@link #propertyFilter} are skipped before their value is read.
 	 *
-	 * @param deviceId The ID of the device for which information is to be retrieved.
+	 * @param deviceId The ID of the device.
+	 * @param data The data node of the device, holding the time and tables.
+	 * @param fetchTimestamp The time the request was sent.
+	 * @return true if the device information was processed
 	 */
-	private void retrieveDeviceInfo(String deviceId) {
-		try {
-			JsonNode response = this.doGet(String.format(NaViSetAdministrator2SECommand.DEVICE_INFO_COMMAND, deviceId), JsonNode.class);
-			if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA) && response.get(NaViSetAdministrator2SEConstant.DATA).has(NaViSetAdministrator2SEConstant.TABLES)) {
-				Map<String, String> mappingValue = new HashMap<>();
-				mappingValue.put(NaViSetAdministrator2SEConstant.LAST_REFRESH, response.get(NaViSetAdministrator2SEConstant.DATA).get(NaViSetAdministrator2SEConstant.TIME).asText());
-				JsonNode deviceInfo = response.get(NaViSetAdministrator2SEConstant.DATA).get(NaViSetAdministrator2SEConstant.TABLES);
-				for (JsonNode item : deviceInfo) {
-					JsonNode propertiesNode = item.get(NaViSetAdministrator2SEConstant.PROPERTIES);
-					if (NaViSetAdministrator2SEConstant.CONTROL_SETTINGS.equalsIgnoreCase(item.get(NaViSetAdministrator2SEConstant.NAME).asText())) {
-						for (JsonNode property : propertiesNode) {
-							String name = cleanPropertyName(property.get(NaViSetAdministrator2SEConstant.PROP_NAME).asText());
-							String value = property.get(NaViSetAdministrator2SEConstant.PROP_VALUE).asText();
-							MonitorPropertyEnum monitorPropertyEnum = MonitorPropertyEnum.getByDefaultName(getPropertyName(name));
-							String group = NaViSetAdministrator2SEConstant.OTHER_GROUP;
-							if (monitorPropertyEnum != null) {
-								if (monitorPropertyEnum == MonitorPropertyEnum.POWER_STATE || monitorPropertyEnum == MonitorPropertyEnum.VIDEO_INPUT || monitorPropertyEnum == MonitorPropertyEnum.AUDIO_VOLUME) {
-									continue;
-								}
-								name = monitorPropertyEnum.getPropertyName();
-								group = monitorPropertyEnum.getGroup();
-							}
-							mappingValue.put(group + name, value);
-						}
-					} else {
-						for (JsonNode property : propertiesNode) {
-							String name = cleanPropertyName(property.get(NaViSetAdministrator2SEConstant.PROP_NAME).asText());
-							String value = property.get(NaViSetAdministrator2SEConstant.PROP_VALUE).asText();
-							mappingValue.put(name, value);
+	private boolean updateDeviceInfo(String deviceId, JsonNode data, long fetchTimestamp) {
+		if (!data.has(NaViSetAdministrator2SEConstant.TABLES)) {
+			return false;
+		}
+		boolean staticDue = isRefreshDue(staticFetchTimestamps, deviceId, staticRefreshInterval, NaViSetAdministrator2SEConstant.DEFAULT_STATIC_REFRESH_INTERVAL, fetchTimestamp);
+		boolean settingsDue = isRefreshDue(settingsFetchTimestamps, deviceId, settingsRefreshInterval, NaViSetAdministrator2SEConstant.DEFAULT_SETTINGS_REFRESH_INTERVAL, fetchTimestamp);
+		Map<String, String> mappingValue = new HashMap<>();
+		mappingValue.put(NaViSetAdministrator2SEConstant.LAST_REFRESH, data.get(NaViSetAdministrator2SEConstant.TIME).asText());
+		JsonNode deviceInfo = data.get(NaViSetAdministrator2SEConstant.TABLES);
+		PropertyFilter filter = propertyFilter;
+		for (JsonNode item : deviceInfo) {
+			JsonNode propertiesNode = item.get(NaViSetAdministrator2SEConstant.PROPERTIES);
+			if (NaViSetAdministrator2SEConstant.CONTROL_SETTINGS.equalsIgnoreCase(item.get(NaViSetAdministrator2SEConstant.NAME).asText())) {
+				for (JsonNode property : propertiesNode) {
+					String name = cleanPropertyName(property.get(NaViSetAdministrator2SEConstant.PROP_NAME).asText());
+					MonitorPropertyEnum monitorPropertyEnum = MonitorPropertyEnum.getByDefaultName(getPropertyName(name));
+					if (!isTierDue(RefreshTier.ofControlSetting(monitorPropertyEnum), staticDue, settingsDue)) {
+						continue;
+					}
+					String group = NaViSetAdministrator2SEConstant.OTHER_GROUP;
+					if (monitorPropertyEnum != null) {
+						if (monitorPropertyEnum == MonitorPropertyEnum.POWER_STATE || monitorPropertyEnum == MonitorPropertyEnum.VIDEO_INPUT || monitorPropertyEnum == MonitorPropertyEnum.AUDIO_VOLUME) {
+							continue;
 						}
+						name = monitorPropertyEnum.getPropertyName();
+						group = monitorPropertyEnum.getGroup();
+					}
+					if (!filter.accept(group, name)) {
+						continue;
+					}
+					mappingValue.put(group + name, property.get(NaViSetAdministrator2SEConstant.PROP_VALUE).asText());
+				}
+			} else {
+				for (JsonNode property : propertiesNode) {
+					String name = cleanPropertyName(property.get(NaViSetAdministrator2SEConstant.PROP_NAME).asText());
+					if (!isTierDue(RefreshTier.ofInfoProperty(name), staticDue, settingsDue) || !filter.accept(NaViSetAdministrator2SEConstant.EMPTY, name)) {
+						continue;
 					}
+					String value = property.get(NaViSetAdministrator2SEConstant.PROP_VALUE).asText();
+					mappingValue.put(name, value);
 				}
-				putMapIntoCachedData(deviceId, mappingValue);
 			}
-		} catch (Exception e) {
-			logger.error(String.format("Error when retrieve device info by id %s", deviceId), e);
+		}
+		putMapIntoCachedData(deviceId, mappingValue);
+		updateTemperatureAnomalies(deviceId, fetchTimestamp);
+		deviceInfoFetchTimestamps.put(deviceId, fetchTimestamp);
+		if (staticDue) {
+			staticFetchTimestamps.put(deviceId, fetchTimestamp);
+		}
+		if (settingsDue) {
+			settingsFetchTimestamps.put(deviceId, fetchTimestamp);
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the refresh interval of a tier has elapsed for a device.
+	 *
+	 * @param fetchTimestamps The timestamps of the last refresh of the tier, per device ID.
+	 * @param deviceId The identifier of the device.
+	 * @param interval The configured refresh interval in seconds.
+	 * @param defaultInterval The default refresh interval in seconds.
+	 * @param now The current time.
+	 * @return true if the tier has to be refreshed
+	 */
+	private boolean isRefreshDue(Map<String, Long> fetchTimestamps, String deviceId, String interval, int defaultInterval, long now) {
+		Long fetchTimestamp = fetchTimestamps.get(deviceId);
+		return fetchTimestamp == null || now - fetchTimestamp >= TimeUnit.SECONDS.toMillis(parseIntConfiguration(interval, defaultInterval));
+	}
+
+	/**
+	 * Checks whether the properties of a tier are refreshed by the current device info retrieval.
+	 *
+	 * @param tier The refresh tier of the property.
+	 * @param staticDue Whether the static identity properties are due.
+	 * @param settingsDue Whether the settings properties are due.
+	 * @return true if the property has to be updated
+	 */
+	private boolean isTierDue(RefreshTier tier, boolean staticDue, boolean settingsDue) {
+		switch (tier) {
+			case STATIC:
+				return staticDue;
+			case SETTINGS:
+				return settingsDue;
+			default:
+				return true;
 		}
 	}
 
@@ -831,9 +3309,12 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	 * @param deviceId The identifier of the device.
 	 */
 	private void retrieveControlData(String deviceId) {
+		long fetchTimestamp = System.currentTimeMillis();
+		boolean fetched = true;
 		for (ControllablePropertyEnum item : ControllablePropertyEnum.values()) {
 			try {
-				JsonNode response = this.doGet(String.format(NaViSetAdministrator2SECommand.CONTROL_DATA_COMMAND, deviceId, item.getCode()), JsonNode.class);
+				JsonNode response = this.doGet(buildDeviceUri(NaViSetAdministrator2SECommand.CONTROL_DATA_COMMAND, deviceId, item.getCode()), JsonNode.class);
+				errorLogAggregator.recordSuccess(deviceId, getControlDataEndpoint(item));
 				if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA) && response.get(NaViSetAdministrator2SEConstant.DATA).has(NaViSetAdministrator2SEConstant.CONTROL)) {
 					JsonNode nodeInfo = response.get(NaViSetAdministrator2SEConstant.DATA).get(NaViSetAdministrator2SEConstant.CONTROL);
 					Map<String, String> mapValue = new HashMap<>();
@@ -853,13 +3334,33 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 						default:
 							break;
 					}
+				} else {
+					fetched = false;
 				}
 				//Sleep after sending request
 				Thread.sleep(1000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
 			} catch (Exception e) {
-				logger.error(String.format("Error when retrieve %s with id %s", item.getPropertyName(), deviceId), e);
+				fetched = false;
+				logDeviceFailure(deviceId, getControlDataEndpoint(item), String.format("Error when retrieve %s with id %s", item.getPropertyName(), deviceId), e);
 			}
 		}
+		if (fetched) {
+			controlDataFetchTimestamps.put(deviceId, fetchTimestamp);
+		}
+	}
+
+	/**
+	 * Builds the failure log label of a control data request. Each VCP code gets its own label, so the success of one code
+	 * does not reset the failure state of another code of the same device that keeps failing.
+	 *
+	 * @param item The controllable property read.
+	 * @return the endpoint label
+	 */
+	private String getControlDataEndpoint(ControllablePropertyEnum item) {
+		return NaViSetAdministrator2SEConstant.CONTROL_DATA_ENDPOINT + NaViSetAdministrator2SEConstant.HASH + item.getCode();
 	}
 
 	/**
@@ -869,7 +3370,8 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	 */
 	private void retrieveAudioVolume(String deviceId) {
 		try {
-			JsonNode response = this.doGet(String.format(NaViSetAdministrator2SECommand.CONTROL_DATA_COMMAND, deviceId, ControllablePropertyEnum.VOLUME.getCode()), JsonNode.class);
+			JsonNode response = this.doGet(buildDeviceUri(NaViSetAdministrator2SECommand.CONTROL_DATA_COMMAND, deviceId, ControllablePropertyEnum.VOLUME.getCode()), JsonNode.class);
+			errorLogAggregator.recordSuccess(deviceId, getControlDataEndpoint(ControllablePropertyEnum.VOLUME));
 			if (response != null && response.has(NaViSetAdministrator2SEConstant.DATA) && response.get(NaViSetAdministrator2SEConstant.DATA).has(NaViSetAdministrator2SEConstant.CONTROL)) {
 				JsonNode nodeInfo = response.get(NaViSetAdministrator2SEConstant.DATA).get(NaViSetAdministrator2SEConstant.CONTROL);
 				Map<String, String> mapValue = new HashMap<>();
@@ -880,7 +3382,8 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 				audioVolumeValues.put(deviceId, new VolumeValueDTO(minValue, maxValue));
 			}
 		} catch (Exception e) {
-			logger.error(String.format("Error when retrieve %s with id %s", ControllablePropertyEnum.VOLUME.getPropertyName(), deviceId), e);
+			logDeviceFailure(deviceId, getControlDataEndpoint(ControllablePropertyEnum.VOLUME),
+					String.format("Error when retrieve %s with id %s", ControllablePropertyEnum.VOLUME.getPropertyName(), deviceId), e);
 		}
 	}
 
@@ -922,29 +3425,27 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	 * @param mappingValue The mapping values to be added.
 	 */
 	private void putMapIntoCachedData(String deviceId, Map<String, String> mappingValue) {
-		synchronized (cachedMonitoringDevice) {
-			Map<String, String> map = new HashMap<>();
-			if (cachedMonitoringDevice.get(deviceId) != null) {
-				map = cachedMonitoringDevice.get(deviceId);
-			}
-			map.putAll(mappingValue);
-			cachedMonitoringDevice.put(deviceId, map);
-		}
+		cachedMonitoringDevice.putAll(deviceId, mappingValue);
+		updateFleetStatistics(deviceId);
 	}
 
 	/**
 	 * Clones and populates the aggregatedDeviceList based on the cachedMonitoringDevice data.
-	 * This method clears the existing aggregatedDeviceList, retrieves device information from cachedMonitoringDevice,
+	 * This method clears the existing aggregatedDeviceList, materialises the device information from cachedMonitoringDevice,
 	 * and populates the list with AggregatedDevice instances containing monitor and controllable properties.
 	 *
 	 * @return The updated aggregatedDeviceList with the latest device information.
 	 */
-	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
+	List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
 			synchronized (aggregatedDeviceList) {
 				aggregatedDeviceList.clear();
-				cachedMonitoringDevice.forEach((key, value) -> {
+				Map<String, Long> nextRefreshTimestamps = estimateNextRefreshTimestamps();
+				for (String key : cachedMonitoringDevice.getDeviceIds()) {
+					Map<String, String> cachedData = cachedMonitoringDevice.toMap(key);
+					if (cachedData == null) {
+						continue;
+					}
 					AggregatedDevice aggregatedDevice = new AggregatedDevice();
-					Map<String, String> cachedData = cachedMonitoringDevice.get(key);
 					String deviceName = findValueByPartialKey(cachedData, NaViSetAdministrator2SEConstant.DEVICE_NAME);
 					String modelName = findValueByPartialKey(cachedData, NaViSetAdministrator2SEConstant.DEVICE_MODEL);
 					String deviceStatus = cachedData.get(NaViSetAdministrator2SEConstant.DEVICE_STATUS);
@@ -964,15 +3465,109 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 					List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
 					populateMonitorProperties(cachedData, stats, dynamicStats);
 					populateControlProperties(key, cachedData, stats, advancedControllableProperties);
+					populateDataFreshness(key, nextRefreshTimestamps.get(key), stats);
+					populateCircuitBreakerState(key, stats);
+					populateTemperatureAnomalies(key, stats);
+					populateGroupControlResult(key, stats);
 					aggregatedDevice.setProperties(stats);
 					aggregatedDevice.setControllableProperties(advancedControllableProperties);
 					aggregatedDevice.setDynamicStatistics(dynamicStats);
 					aggregatedDeviceList.add(aggregatedDevice);
-				});
+				}
 			}
 		return aggregatedDeviceList;
 	}
 
+	/**
+	 * Estimates when each device is next going to be refreshed, based on its position in the refresh order
+	 * and the interval between collection cycles.
+	 *
+	 * @return map of device ID to the estimated timestamp of its next refresh
+	 */
+	private Map<String, Long> estimateNextRefreshTimestamps() {
+		Map<String, Long> nextRefreshTimestamps = new HashMap<>();
+		long nextCycleTimestamp = Math.max(nextDevicesCollectionIterationTimestamp, System.currentTimeMillis());
+		Map<String, Integer> positions = new HashMap<>();
+		TreeGroupScheduler scheduler = treeGroupScheduler;
+		Map<String, List<String>> groupPaths = deviceGroupPaths;
+		for (String deviceId : getRefreshOrder()) {
+			long refreshInterval = scheduler.getRefreshInterval(scheduler.resolveGroup(groupPaths.getOrDefault(deviceId, Collections.emptyList())));
+			if (refreshInterval > 0) {
+				nextRefreshTimestamps.put(deviceId, Math.max(nextCycleTimestamp, getScheduleTimestamp(deviceId) + refreshInterval));
+				continue;
+			}
+			NavisetServer server = findServerByDevice(deviceId);
+			int position = positions.merge(server == null ? NaViSetAdministrator2SEConstant.EMPTY : server.getName(), 1, Integer::sum) - 1;
+			long cyclesAhead = position / NaViSetAdministrator2SEConstant.NUMBER_DEVICE_IN_INTERVAL;
+			nextRefreshTimestamps.put(deviceId, nextCycleTimestamp + cyclesAhead * NaViSetAdministrator2SEConstant.DEVICES_COLLECTION_INTERVAL);
+		}
+		deviceCircuitBreakers.forEach((deviceId, circuitBreaker) -> nextRefreshTimestamps.putIfAbsent(deviceId, Math.max(nextCycleTimestamp, circuitBreaker.getOpenUntil())));
+		return nextRefreshTimestamps;
+	}
+
+	/**
+	 * Populates data age, staleness and next scheduled refresh of the specified device.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param nextRefreshTimestamp The estimated timestamp of the next refresh, may be null
+	 * @param stats The statistics for the device.
+	 */
+	private void populateDataFreshness(String deviceId, Long nextRefreshTimestamp, Map<String, String> stats) {
+		long currentTimestamp = System.currentTimeMillis();
+		Long deviceInfoTimestamp = deviceInfoFetchTimestamps.get(deviceId);
+		Long controlDataTimestamp = controlDataFetchTimestamps.get(deviceId);
+		long staleThreshold = TimeUnit.SECONDS.toMillis(getDefaultDataStaleThreshold());
+		boolean stale = deviceInfoTimestamp == null || controlDataTimestamp == null || stragglerDevices.contains(deviceId)
+				|| currentTimestamp - Math.min(deviceInfoTimestamp, controlDataTimestamp) > staleThreshold;
+
+		String group = NaViSetAdministrator2SEConstant.DATA_FRESHNESS_GROUP;
+		stats.put(group + NaViSetAdministrator2SEConstant.DEVICE_INFO_AGE, getAgeInSeconds(deviceInfoTimestamp, currentTimestamp));
+		stats.put(group + NaViSetAdministrator2SEConstant.CONTROL_DATA_AGE, getAgeInSeconds(controlDataTimestamp, currentTimestamp));
+		stats.put(group + NaViSetAdministrator2SEConstant.DATA_STALE, stale ? NaViSetAdministrator2SEConstant.TRUE : NaViSetAdministrator2SEConstant.FALSE);
+		stats.put(group + NaViSetAdministrator2SEConstant.DATA_SOURCE,
+				snapshotRestoredDevices.contains(deviceId) ? NaViSetAdministrator2SEConstant.SNAPSHOT : NaViSetAdministrator2SEConstant.LIVE);
+		if (nextRefreshTimestamp != null) {
+			stats.put(group + NaViSetAdministrator2SEConstant.NEXT_REFRESH, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(Math.max(0, nextRefreshTimestamp - currentTimestamp))));
+		}
+	}
+
+	/**
+	 * Populates the circuit breaker state of the specified device.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param stats The statistics for the device.
+	 */
+	private void populateCircuitBreakerState(String deviceId, Map<String, String> stats) {
+		DeviceCircuitBreaker circuitBreaker = deviceCircuitBreakers.get(deviceId);
+		String group = NaViSetAdministrator2SEConstant.CIRCUIT_BREAKER_GROUP;
+		if (circuitBreaker == null) {
+			stats.put(group + NaViSetAdministrator2SEConstant.CIRCUIT_BREAKER_STATE, CircuitBreakerState.CLOSED.getName());
+			stats.put(group + NaViSetAdministrator2SEConstant.CONSECUTIVE_FAILURES, NaViSetAdministrator2SEConstant.ZERO);
+			return;
+		}
+		CircuitBreakerState state = circuitBreaker.getState();
+		stats.put(group + NaViSetAdministrator2SEConstant.CIRCUIT_BREAKER_STATE, state.getName());
+		stats.put(group + NaViSetAdministrator2SEConstant.CONSECUTIVE_FAILURES, String.valueOf(circuitBreaker.getConsecutiveFailures()));
+		if (state == CircuitBreakerState.OPEN) {
+			long nextProbe = Math.max(0, circuitBreaker.getOpenUntil() - System.currentTimeMillis());
+			stats.put(group + NaViSetAdministrator2SEConstant.NEXT_PROBE, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(nextProbe)));
+		}
+	}
+
+	/**
+	 * Converts a fetch timestamp into an age in seconds.
+	 *
+	 * @param timestamp The fetch timestamp, may be null
+	 * @param currentTimestamp The current timestamp
+	 * @return the age in seconds, or {@link NaViSetAdministrator2SEConstant#NONE} if data was never fetched
+	 */
+	private String getAgeInSeconds(Long timestamp, long currentTimestamp) {
+		if (timestamp == null) {
+			return NaViSetAdministrator2SEConstant.NONE;
+		}
+		return String.valueOf(TimeUnit.MILLISECONDS.toSeconds(currentTimestamp - timestamp));
+	}
+
 	/**
 	 * Populates control properties for the specified device based on cached data, statistics, and advanced controllable properties.
 	 *
@@ -994,12 +3589,15 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 						break;
 					case INPUT:
 						List<InputValueDTO> values = videoInputValues.get(deviceId);
+						if (values == null) {
+							break;
+						}
 						String newValue = getNameByValue(values, value);
 						addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(propertyName, getAllNames(values), newValue), newValue);
 						break;
 					case VOLUME:
-						if (NaViSetAdministrator2SEConstant.NUMBER_ONE.equalsIgnoreCase(getDefaultValueForNullData(cachedData.get(NaViSetAdministrator2SEConstant.DEVICE_STATUS)))) {
-							VolumeValueDTO volumeValue = audioVolumeValues.get(deviceId);
+						VolumeValueDTO volumeValue = audioVolumeValues.get(deviceId);
+						if (volumeValue != null && NaViSetAdministrator2SEConstant.NUMBER_ONE.equalsIgnoreCase(getDefaultValueForNullData(cachedData.get(NaViSetAdministrator2SEConstant.DEVICE_STATUS)))) {
 							String minValue = volumeValue.getMinValue();
 							String maxValue = volumeValue.getMaxValue();
 							addAdvancedControlProperties(advancedControllableProperties, stats,
@@ -1017,7 +3615,7 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	/**
 	 * Populates monitor properties in the stats map based on the provided cached data.
 	 * This method iterates through the entries in the cached data and maps specific properties to the stats map.
-	 * Some properties may undergo additional processing before being added to the stats map.
+	 * Temperatures are already parsed to their Celsius value when they are cached.
 	 *
 	 * @param cached The cached data containing monitor properties.
 	 * @param stats The map to which monitor properties will be added.
@@ -1029,7 +3627,7 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 			if (statisticsDefinition != null) {
 				boolean propertyListed = false;
 				String propertyName = statisticsDefinition.getPropertyName();
-				String propertyValue = getTemperatureC(value);
+				String propertyValue = value;
 				if (!historicalProperties.isEmpty()) {
 					propertyListed = historicalProperties.contains(propertyName);
 				}
@@ -1084,25 +3682,6 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 		return objectList.stream().map(InputValueDTO::getName).toArray(String[]::new);
 	}
 
-	/**
-	 * Extracts the temperature value in Celsius from the input string.
-	 * This method uses a regular expression pattern to find a decimal number followed by "°C" in the input string.
-	 * If a match is found, the extracted temperature value is returned; otherwise, "NONE" is returned.
-	 *
-	 * @param input The input string containing temperature information.
-	 * @return The extracted temperature value in Celsius or "NONE" if not found.
-	 */
-	private String getTemperatureC(String input) {
-		Pattern pattern = Pattern.compile("(\\d+\\.\\d+)°C");
-		Matcher matcher = pattern.matcher(input);
-
-		if (matcher.find()) {
-			return matcher.group(1);
-		} else {
-			return NaViSetAdministrator2SEConstant.NONE;
-		}
-	}
-
 	/**
 	 * Finds and retrieves the value from a map based on a partial key match.
 	 * This method iterates through the keys of the map and returns the value
@@ -1142,6 +3721,38 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 		return result;
 	}
 
+	/**
+	 * Gets the data stale threshold in seconds based on the provided input or a default constant value.
+	 *
+	 * @return The data stale threshold in seconds.
+	 */
+	private int getDefaultDataStaleThreshold() {
+		return parseIntConfiguration(dataStaleThreshold, NaViSetAdministrator2SEConstant.DEFAULT_DATA_STALE_THRESHOLD);
+	}
+
+	/**
+	 * Parses a positive integer configuration property, falling back to the default value when it is missing or invalid.
+	 *
+	 * @param value The configured value.
+	 * @param defaultValue The default value.
+	 * @return the parsed value, or the default value
+	 */
+	private int parseIntConfiguration(String value, int defaultValue) {
+		try {
+			if (StringUtils.isNotNullOrEmpty(value)) {
+				int result = Integer.parseInt(value.trim());
+				if (result > 0) {
+					return result;
+				}
+			}
+		} catch (Exception e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Invalid configuration value %s, the default value %s is used", value, defaultValue));
+			}
+		}
+		return defaultValue;
+	}
+
 	/**
 	 * check value is null or empty
 	 *
@@ -1160,10 +3771,8 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 	 * @param value The new value to be updated.
 	 */
 	private void updateCachedValue(String deviceId, String name, String value) {
-		cachedMonitoringDevice.computeIfPresent(deviceId, (key, map) -> {
-			map.put(name, value);
-			return map;
-		});
+		cachedMonitoringDevice.update(deviceId, name, value);
+		updateFleetStatistics(deviceId);
 	}
 
 	/**
@@ -1270,6 +3879,22 @@ public class NaViSetAdministrator2SECommunicator extends RestCommunicator implem
 		return new AdvancedControllableProperty(name, new Date(), dropDown, initialValue);
 	}
 
+	/**
+	 * Create button is control property for metric
+	 *
+	 * @param name the name of property
+	 * @param label the label of the button
+	 * @return AdvancedControllableProperty button instance
+	 */
+	private AdvancedControllableProperty createButton(String name, String label) {
+		AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
+		button.setLabel(label);
+		button.setLabelPressed(NaViSetAdministrator2SEConstant.APPLYING);
+		button.setGracePeriod((long) NaViSetAdministrator2SEConstant.GRACE_PERIOD);
+
+		return new AdvancedControllableProperty(name, new Date(), button, NaViSetAdministrator2SEConstant.EMPTY);
+	}
+
 	/**
 	 * Create switch is control property for metric
 	 *
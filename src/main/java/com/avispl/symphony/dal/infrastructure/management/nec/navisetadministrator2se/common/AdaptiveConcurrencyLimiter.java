@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Additive-increase/multiplicative-decrease limiter for the number of requests in flight to the NaViSet Administrator server.
+ * The limit shrinks when a request fails or its latency exceeds the tolerated multiple of the baseline latency of its endpoint,
+ * where an endpoint is a request variant with a latency profile of its own, such as a batched or a full device info read,
+ * and grows by roughly one request per round trip while the server is healthy and the limit is actually used.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AdaptiveConcurrencyLimiter {
+	private static final double BACKOFF_RATIO = 0.75;
+	private static final double LATENCY_TOLERANCE = 2.0;
+	private static final double BASELINE_DRIFT = 0.01;
+	private static final double SMOOTHING = 0.2;
+
+	private final int minLimit;
+	private final int maxLimit;
+
+	private double limit;
+	private int inFlight;
+	private final Map<String, Double> baselineLatencies = new HashMap<>();
+	private double smoothedLatency;
+
+	/**
+	 * Constructs an AdaptiveConcurrencyLimiter starting at the maximum limit.
+	 *
+	 * @param minLimit The minimum number of requests in flight.
+	 * @param maxLimit The maximum number of requests in flight.
+	 */
+	public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit) {
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.limit = this.maxLimit;
+	}
+
+	/**
+	 * Waits until a request may be sent without exceeding the current limit.
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public synchronized void acquire() throws InterruptedException {
+		while (inFlight >= getLimit()) {
+			wait();
+		}
+		inFlight++;
+	}
+
+	/**
+	 * Checks whether a request could be sent right now without waiting for a slot.
+	 *
+	 * @return true if fewer requests than the current limit are in flight
+	 */
+	public synchronized boolean hasFreeSlot() {
+		return inFlight < getLimit();
+	}
+
+	/**
+	 * Releases a request slot and adjusts the limit based on the outcome of the request.
+	 *
+	 * @param endpoint The endpoint the request was sent to.
+	 * @param latency The request latency in milliseconds.
+	 * @param succeeded Whether the request succeeded.
+	 */
+	public synchronized void release(String endpoint, long latency, boolean succeeded) {
+		inFlight--;
+		smoothedLatency = smoothedLatency == 0 ? latency : smoothedLatency + SMOOTHING * (latency - smoothedLatency);
+		if (succeeded) {
+			updateBaseline(endpoint, latency);
+		}
+		if (!succeeded || latency > getBaselineLatency(endpoint) * LATENCY_TOLERANCE) {
+			limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+		} else if (inFlight + 1 >= getLimit() / 2) {
+			limit = Math.min(maxLimit, limit + 1.0 / limit);
+		}
+		notifyAll();
+	}
+
+	/**
+	 * Releases the slot of a request whose outcome says nothing about the load of the server, such as an interrupted request
+	 * or an error reported for a single device, without adjusting the limit.
+	 */
+	public synchronized void abandon() {
+		inFlight--;
+		notifyAll();
+	}
+
+	/**
+	 * Updates the baseline latency. Lower latencies replace the baseline immediately,
+	 * higher ones move it up slowly so the baseline follows lasting changes of the network.
+	 *
+	 * @param endpoint The endpoint the latency was observed for.
+	 * @param latency The observed latency in milliseconds.
+	 */
+	public synchronized void updateBaseline(String endpoint, double latency) {
+		Double baselineLatency = baselineLatencies.get(endpoint);
+		if (baselineLatency == null || latency < baselineLatency) {
+			baselineLatencies.put(endpoint, Math.max(1, latency));
+		} else {
+			baselineLatencies.put(endpoint, baselineLatency + BASELINE_DRIFT * (latency - baselineLatency));
+		}
+	}
+
+	/**
+	 * Retrieves the current limit of requests in flight.
+	 *
+	 * @return the current limit
+	 */
+	public synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	/**
+	 * Retrieves {@link #inFlight}
+	 *
+	 * @return value of {@link #inFlight}
+	 */
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	/**
+	 * Retrieves {@link #smoothedLatency}
+	 *
+	 * @return value of {@link #smoothedLatency}
+	 */
+	public synchronized double getSmoothedLatency() {
+		return smoothedLatency;
+	}
+
+	/**
+	 * Retrieves the baseline latency of an endpoint.
+	 *
+	 * @param endpoint The endpoint.
+	 * @return the baseline latency in milliseconds, or 0 if the endpoint has no successful request yet
+	 */
+	public synchronized double getBaselineLatency(String endpoint) {
+		return baselineLatencies.getOrDefault(endpoint, 0D);
+	}
+}
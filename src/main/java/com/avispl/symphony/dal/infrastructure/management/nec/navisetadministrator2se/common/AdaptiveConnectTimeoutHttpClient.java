@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.io.IOException;
+import java.util.function.ToIntFunction;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * HTTP client applying a connect timeout derived at runtime to the requests it sends, and delegating everything else to the wrapped client.
+ * The wrapped client only reads its timeouts when it is built, so the connect timeout is set on each request instead.
+ * Socket and connection pool timeouts are left as configured on the wrapped client.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AdaptiveConnectTimeoutHttpClient extends CloseableHttpClient implements Configurable {
+	private final CloseableHttpClient httpClient;
+	private final ToIntFunction<HttpHost> connectTimeoutSupplier;
+
+	/**
+	 * Constructs an AdaptiveConnectTimeoutHttpClient.
+	 *
+	 * @param httpClient The HTTP client sending the requests.
+	 * @param connectTimeoutSupplier Supplier of the connect timeout in milliseconds for a target host,
+	 * a value of 0 or less keeps the connect timeout of the wrapped client.
+	 */
+	public AdaptiveConnectTimeoutHttpClient(CloseableHttpClient httpClient, ToIntFunction<HttpHost> connectTimeoutSupplier) {
+		this.httpClient = httpClient;
+		this.connectTimeoutSupplier = connectTimeoutSupplier;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+		int connectTimeout = target == null ? 0 : connectTimeoutSupplier.applyAsInt(target);
+		if (connectTimeout > 0 && request instanceof HttpRequestBase) {
+			HttpRequestBase requestBase = (HttpRequestBase) request;
+			RequestConfig config = requestBase.getConfig() != null ? requestBase.getConfig() : getConfig();
+			requestBase.setConfig(RequestConfig.copy(config == null ? RequestConfig.DEFAULT : config).setConnectTimeout(connectTimeout).build());
+		}
+		return httpClient.execute(target, request, context);
+	}
+
+	/**
+	 * Retrieves the default request configuration of the wrapped client.
+	 *
+	 * @return the default request configuration, or null if the wrapped client does not expose it
+	 */
+	@Override
+	public RequestConfig getConfig() {
+		return httpClient instanceof Configurable ? ((Configurable) httpClient).getConfig() : null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		httpClient.close();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Deprecated
+	public HttpParams getParams() {
+		return httpClient.getParams();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Deprecated
+	public ClientConnectionManager getConnectionManager() {
+		return httpClient.getConnectionManager();
+	}
+}
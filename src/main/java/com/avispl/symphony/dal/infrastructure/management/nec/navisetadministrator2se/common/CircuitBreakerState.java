@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+/**
+ * Enumeration representing the states of a per-device circuit breaker.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum CircuitBreakerState {
+	CLOSED("Closed"),
+	OPEN("Open"),
+	HALF_OPEN("HalfOpen"),
+	;
+	private final String name;
+
+	/**
+	 * Constructor for CircuitBreakerState.
+	 *
+	 * @param name The display name of the state.
+	 */
+	CircuitBreakerState(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
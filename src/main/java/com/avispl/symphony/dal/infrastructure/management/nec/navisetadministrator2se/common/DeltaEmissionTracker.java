@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * Tracks the property values last emitted for every device, so that only the changed values are emitted again.
+ * Properties backing a controllable property are always emitted together with the control, and properties that disappeared
+ * from a device are emitted once as {@link NaViSetAdministrator2SEConstant#NONE}, so their last value is not kept forever.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeltaEmissionTracker {
+	private final Map<String, Map<String, String>> emittedProperties = new HashMap<>();
+	private final Map<String, Map<String, String>> emittedDynamicStatistics = new HashMap<>();
+	private final Map<String, Long> fullEmissionTimestamps = new HashMap<>();
+
+	/**
+	 * Reduces the devices to the values that changed since the last emission.
+	 * A device is emitted in full once the resync interval has elapsed since its last full emission.
+	 *
+	 * @param devices The fully populated devices.
+	 * @param resyncInterval The interval between full emissions in milliseconds.
+	 * @param now The current time.
+	 * @return new device instances holding the values to emit
+	 */
+	public synchronized List<AggregatedDevice> emit(List<AggregatedDevice> devices, long resyncInterval, long now) {
+		List<AggregatedDevice> result = new ArrayList<>(devices.size());
+		for (AggregatedDevice device : devices) {
+			Long fullEmissionTimestamp = fullEmissionTimestamps.get(device.getDeviceId());
+			boolean fullEmission = fullEmissionTimestamp == null || now - fullEmissionTimestamp >= resyncInterval;
+			if (fullEmission) {
+				fullEmissionTimestamps.put(device.getDeviceId(), now);
+			}
+			AggregatedDevice delta = new AggregatedDevice();
+			delta.setDeviceId(device.getDeviceId());
+			delta.setDeviceName(device.getDeviceName());
+			delta.setDeviceModel(device.getDeviceModel());
+			delta.setDeviceOnline(device.getDeviceOnline());
+			delta.setControllableProperties(device.getControllableProperties());
+			Map<String, String> properties = diff(emittedProperties, device.getDeviceId(), device.getProperties(), fullEmission, NaViSetAdministrator2SEConstant.NONE);
+			if (device.getControllableProperties() != null && device.getProperties() != null) {
+				for (AdvancedControllableProperty control : device.getControllableProperties()) {
+					String value = device.getProperties().get(control.getName());
+					if (value != null) {
+						properties.put(control.getName(), value);
+					}
+				}
+			}
+			delta.setProperties(properties);
+			delta.setDynamicStatistics(diff(emittedDynamicStatistics, device.getDeviceId(), device.getDynamicStatistics(), fullEmission, null));
+			result.add(delta);
+		}
+		return result;
+	}
+
+	/**
+	 * Forgets every emitted value, so the next emission is a full one.
+	 */
+	public synchronized void clear() {
+		emittedProperties.clear();
+		emittedDynamicStatistics.clear();
+		fullEmissionTimestamps.clear();
+	}
+
+	/**
+	 * Computes the values that changed since the last emission and records the current values as emitted.
+	 *
+	 * @param emitted The values emitted so far, per device.
+	 * @param deviceId The identifier of the device.
+	 * @param current The current values of the device, may be null.
+	 * @param fullEmission Whether every value has to be emitted.
+	 * @param removedValue The value emitted for a key that is no longer present, or null to not emit removed keys.
+	 * @return the values to emit
+	 */
+	private Map<String, String> diff(Map<String, Map<String, String>> emitted, String deviceId, Map<String, String> current, boolean fullEmission,
+			String removedValue) {
+		Map<String, String> changed = new HashMap<>();
+		if (current == null) {
+			return changed;
+		}
+		Map<String, String> previous = emitted.get(deviceId);
+		if (fullEmission || previous == null) {
+			changed.putAll(current);
+		} else {
+			current.forEach((key, value) -> {
+				if (value != null && !value.equals(previous.get(key))) {
+					changed.put(key, value);
+				}
+			});
+		}
+		if (previous != null && removedValue != null) {
+			previous.keySet().forEach(key -> {
+				if (!current.containsKey(key)) {
+					changed.put(key, removedValue);
+				}
+			});
+		}
+		emitted.put(deviceId, new HashMap<>(current));
+		return changed;
+	}
+}
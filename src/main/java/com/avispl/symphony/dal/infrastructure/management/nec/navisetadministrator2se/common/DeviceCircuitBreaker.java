@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+/**
+ * Circuit breaker guarding the requests sent for a single device.
+ * The breaker opens after a number of consecutive failures, then lets a single probe through once the backoff has elapsed.
+ * Every failed probe doubles the backoff, up to the configured maximum.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceCircuitBreaker {
+	private final int failureThreshold;
+	private final long initialBackoff;
+	private final long maxBackoff;
+
+	private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+	private int consecutiveFailures;
+	private long backoff;
+	private long openUntil;
+
+	/**
+	 * Constructs a DeviceCircuitBreaker.
+	 *
+	 * @param failureThreshold The number of consecutive failures that opens the breaker.
+	 * @param initialBackoff The first backoff period in milliseconds.
+	 * @param maxBackoff The maximum backoff period in milliseconds.
+	 */
+	public DeviceCircuitBreaker(int failureThreshold, long initialBackoff, long maxBackoff) {
+		this.failureThreshold = failureThreshold;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = Math.max(initialBackoff, maxBackoff);
+		this.backoff = initialBackoff;
+	}
+
+	/**
+	 * Checks whether a request may be sent at the given time, without changing the breaker state.
+	 *
+	 * @param currentTimestamp The current timestamp.
+	 * @return true if the breaker is closed or its backoff has elapsed
+	 */
+	public synchronized boolean canAttempt(long currentTimestamp) {
+		return state == CircuitBreakerState.CLOSED || (state == CircuitBreakerState.OPEN && currentTimestamp >= openUntil);
+	}
+
+	/**
+	 * Acquires permission to send a request. An open breaker whose backoff has elapsed moves to half-open,
+	 * so only the caller receiving true probes the device.
+	 *
+	 * @param currentTimestamp The current timestamp.
+	 * @return true if the request may be sent
+	 */
+	public synchronized boolean allowRequest(long currentTimestamp) {
+		switch (state) {
+			case CLOSED:
+				return true;
+			case OPEN:
+				if (currentTimestamp >= openUntil) {
+					state = CircuitBreakerState.HALF_OPEN;
+					return true;
+				}
+				return false;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Records a successful request and closes the breaker.
+	 */
+	public synchronized void recordSuccess() {
+		state = CircuitBreakerState.CLOSED;
+		consecutiveFailures = 0;
+		backoff = initialBackoff;
+		openUntil = 0;
+	}
+
+	/**
+	 * Records a failed request. A failed probe reopens the breaker with a doubled backoff.
+	 *
+	 * @param currentTimestamp The current timestamp.
+	 */
+	public synchronized void recordFailure(long currentTimestamp) {
+		consecutiveFailures++;
+		if (state == CircuitBreakerState.HALF_OPEN) {
+			backoff = Math.min(backoff * 2, maxBackoff);
+			open(currentTimestamp);
+		} else if (state == CircuitBreakerState.CLOSED && consecutiveFailures >= failureThreshold) {
+			backoff = initialBackoff;
+			open(currentTimestamp);
+		}
+	}
+
+	/**
+	 * Records a failure for a probe that was abandoned before its outcome was known, such as a straggler cancelled at the batch deadline,
+	 * so the breaker reopens instead of staying half-open. Does nothing when no probe is in flight.
+	 *
+	 * @param currentTimestamp The current timestamp.
+	 */
+	public synchronized void abandonProbe(long currentTimestamp) {
+		if (state == CircuitBreakerState.HALF_OPEN) {
+			recordFailure(currentTimestamp);
+		}
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized CircuitBreakerState getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public synchronized int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Retrieves {@link #openUntil}
+	 *
+	 * @return value of {@link #openUntil}
+	 */
+	public synchronized long getOpenUntil() {
+		return openUntil;
+	}
+
+	/**
+	 * Opens the breaker for the current backoff period.
+	 *
+	 * @param currentTimestamp The current timestamp.
+	 */
+	private void open(long currentTimestamp) {
+		state = CircuitBreakerState.OPEN;
+		openUntil = currentTimestamp + backoff;
+	}
+}
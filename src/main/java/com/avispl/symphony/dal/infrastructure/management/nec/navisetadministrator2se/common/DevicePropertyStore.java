@@ -0,0 +1,373 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.DynamicStatisticsDefinition;
+
+/**
+ * Compact store of the cached properties of all devices.
+ * Property names are kept once in a shared dictionary and mapped to int ids, while each device only holds an array of values
+ * indexed by those ids. Short values are interned in a bounded pool, as most settings share a handful of values across the fleet.
+ * Numeric properties (temperatures, frequencies, hours and carbon totals) are parsed once when they are stored and kept in primitive
+ * slots with their units stripped; they are formatted back to text only when a map view is materialised for a device snapshot.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DevicePropertyStore {
+	private static final int MAX_INTERNED_VALUE_LENGTH = 32;
+	private static final int MAX_INTERNED_VALUES = 4096;
+
+	/**
+	 * Cached values of a single device.
+	 */
+	private static class DeviceValues {
+		private String[] values;
+		private final double[] numbers;
+		private final byte[] scales;
+
+		/**
+		 * Constructs DeviceValues with no value set.
+		 *
+		 * @param keyCount The number of known keys.
+		 * @param numericKeyCount The number of numeric keys.
+		 */
+		DeviceValues(int keyCount, int numericKeyCount) {
+			values = new String[keyCount];
+			numbers = new double[numericKeyCount];
+			scales = new byte[numericKeyCount];
+			Arrays.fill(numbers, Double.NaN);
+		}
+	}
+
+	private final Map<String, Integer> keyIds = new HashMap<>();
+	private final List<String> keys = new ArrayList<>();
+	private int[] numericSlots = new int[0];
+	private boolean[] temperatureSlots = new boolean[0];
+	private final Map<String, String> internedValues = new HashMap<>();
+	private final Map<String, DeviceValues> deviceValues = new HashMap<>();
+	private final Map<String, int[]> partialKeyIds = new HashMap<>();
+	private int partialKeyDictionarySize;
+
+	/**
+	 * Constructs a DevicePropertyStore with the known properties registered first, so they get stable ids.
+	 */
+	public DevicePropertyStore() {
+		for (MonitorPropertyEnum item : MonitorPropertyEnum.values()) {
+			getOrCreateKeyId(item.getGroup() + item.getPropertyName());
+			int keyId = getOrCreateKeyId(item.getDefaultName());
+			if (item.isNumeric()) {
+				registerNumericKey(keyId, false);
+			}
+		}
+		for (ControllablePropertyEnum item : ControllablePropertyEnum.values()) {
+			getOrCreateKeyId(item.getGroup() + item.getPropertyName());
+		}
+		for (DynamicStatisticsDefinition item : DynamicStatisticsDefinition.values()) {
+			registerNumericKey(getOrCreateKeyId(item.getDefaultName()), true);
+		}
+	}
+
+	/**
+	 * Merges the given properties into the cached values of a device, creating the device if needed.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param properties The properties to merge.
+	 */
+	public synchronized void putAll(String deviceId, Map<String, String> properties) {
+		putAll(deviceId, properties, false);
+	}
+
+	/**
+	 * Merges properties previously materialised by {@link #toMap(String)} into the cached values of a device,
+	 * creating the device if needed. Numeric values are expected without units.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param properties The materialised properties.
+	 */
+	public synchronized void restore(String deviceId, Map<String, String> properties) {
+		putAll(deviceId, properties, true);
+	}
+
+	/**
+	 * Updates a single property of a device, if the device is cached.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param key The property name.
+	 * @param value The new value.
+	 */
+	public synchronized void update(String deviceId, String key, String value) {
+		DeviceValues device = deviceValues.get(deviceId);
+		if (device != null) {
+			setValue(device, getOrCreateKeyId(key), value, false);
+		}
+	}
+
+	/**
+	 * Retrieves a single property of a device.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param key The property name.
+	 * @return the cached value, or null if the device or property is not cached
+	 */
+	public synchronized String get(String deviceId, String key) {
+		DeviceValues device = deviceValues.get(deviceId);
+		Integer keyId = keyIds.get(key);
+		if (device == null || keyId == null) {
+			return null;
+		}
+		return getValue(device, keyId);
+	}
+
+	/**
+	 * Retrieves a property of a device whose name contains the given text, such as a property named after the table it is reported in.
+	 * The matching names are resolved once through the key dictionary and only looked up again when new names were registered,
+	 * so no map of the device properties is materialised.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param partialKey The text the property name contains.
+	 * @return the value of the first matching property the device has, or null if there is none
+	 */
+	public synchronized String findByPartialKey(String deviceId, String partialKey) {
+		DeviceValues device = deviceValues.get(deviceId);
+		if (device == null) {
+			return null;
+		}
+		for (int keyId : getPartialKeyIds(partialKey)) {
+			String value = getValue(device, keyId);
+			if (value != null) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Retrieves a numeric property of a device.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param key The property name.
+	 * @return the numeric value, or {@link Double#NaN} if the property is not cached or not numeric
+	 */
+	public synchronized double getNumber(String deviceId, String key) {
+		DeviceValues device = deviceValues.get(deviceId);
+		Integer keyId = keyIds.get(key);
+		int slot = keyId == null ? -1 : getNumericSlot(keyId);
+		if (device == null || slot < 0) {
+			return Double.NaN;
+		}
+		return device.numbers[slot];
+	}
+
+	/**
+	 * Materialises the cached properties of a device into a new map.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @return a mutable copy of the device properties, or null if the device is not cached
+	 */
+	public synchronized Map<String, String> toMap(String deviceId) {
+		DeviceValues device = deviceValues.get(deviceId);
+		if (device == null) {
+			return null;
+		}
+		Map<String, String> properties = new HashMap<>();
+		for (int keyId = 0; keyId < keys.size(); keyId++) {
+			String value = getValue(device, keyId);
+			if (value != null) {
+				properties.put(keys.get(keyId), value);
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Retrieves the IDs of all cached devices.
+	 *
+	 * @return a copy of the cached device IDs
+	 */
+	public synchronized List<String> getDeviceIds() {
+		return new ArrayList<>(deviceValues.keySet());
+	}
+
+	/**
+	 * Checks whether a device is cached.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @return true if the device is cached
+	 */
+	public synchronized boolean contains(String deviceId) {
+		return deviceValues.containsKey(deviceId);
+	}
+
+	/**
+	 * Checks whether no device is cached.
+	 *
+	 * @return true if the store is empty
+	 */
+	public synchronized boolean isEmpty() {
+		return deviceValues.isEmpty();
+	}
+
+	/**
+	 * Removes all cached devices. The key dictionary is kept, as the same properties are expected again.
+	 */
+	public synchronized void clear() {
+		deviceValues.clear();
+		internedValues.clear();
+	}
+
+	/**
+	 * Merges properties into the cached values of a device, creating the device if needed.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param properties The properties to merge.
+	 * @param formatted Whether numeric values are already formatted without units.
+	 */
+	private void putAll(String deviceId, Map<String, String> properties, boolean formatted) {
+		DeviceValues device = deviceValues.get(deviceId);
+		if (device == null) {
+			device = new DeviceValues(keys.size(), temperatureSlots.length);
+			deviceValues.put(deviceId, device);
+		}
+		for (Map.Entry<String, String> entry : properties.entrySet()) {
+			setValue(device, getOrCreateKeyId(entry.getKey()), entry.getValue(), formatted);
+		}
+	}
+
+	/**
+	 * Stores a value of a device. Numeric values are parsed into their primitive slot, and only kept as text when parsing fails.
+	 * Temperatures that cannot be parsed are stored as {@link NaViSetAdministrator2SEConstant#NONE}.
+	 *
+	 * @param device The device values.
+	 * @param keyId The property id.
+	 * @param value The value.
+	 * @param formatted Whether a numeric value is already formatted without unit.
+	 */
+	private void setValue(DeviceValues device, int keyId, String value, boolean formatted) {
+		int slot = getNumericSlot(keyId);
+		if (slot >= 0) {
+			boolean temperature = temperatureSlots[slot] && !formatted;
+			long packed = temperature ? NumericValueParser.parseTemperature(value) : NumericValueParser.parseNumber(value);
+			if (packed != NumericValueParser.NOT_FOUND) {
+				device.numbers[slot] = NumericValueParser.getValue(packed);
+				device.scales[slot] = (byte) NumericValueParser.getScale(packed);
+				value = null;
+			} else {
+				device.numbers[slot] = Double.NaN;
+				if (temperature && value != null) {
+					value = NaViSetAdministrator2SEConstant.NONE;
+				}
+			}
+		}
+		if (keyId >= device.values.length) {
+			if (value == null) {
+				return;
+			}
+			device.values = Arrays.copyOf(device.values, keys.size());
+		}
+		device.values[keyId] = intern(value);
+	}
+
+	/**
+	 * Retrieves a value of a device as text, formatting numeric values.
+	 *
+	 * @param device The device values.
+	 * @param keyId The property id.
+	 * @return the value, or null if it is not set
+	 */
+	private String getValue(DeviceValues device, int keyId) {
+		int slot = getNumericSlot(keyId);
+		if (slot >= 0 && !Double.isNaN(device.numbers[slot])) {
+			return NumericValueParser.format(device.numbers[slot], device.scales[slot]);
+		}
+		return keyId < device.values.length ? device.values[keyId] : null;
+	}
+
+	/**
+	 * Registers a numeric property. Numeric properties are all known enum properties, registered before any device is stored.
+	 *
+	 * @param keyId The property id.
+	 * @param temperature Whether the property is a temperature.
+	 */
+	private void registerNumericKey(int keyId, boolean temperature) {
+		int slot = temperatureSlots.length;
+		if (keyId >= numericSlots.length) {
+			int length = numericSlots.length;
+			numericSlots = Arrays.copyOf(numericSlots, keyId + 1);
+			Arrays.fill(numericSlots, length, numericSlots.length, -1);
+		}
+		numericSlots[keyId] = slot;
+		temperatureSlots = Arrays.copyOf(temperatureSlots, slot + 1);
+		temperatureSlots[slot] = temperature;
+	}
+
+	/**
+	 * Retrieves the numeric slot of a property.
+	 *
+	 * @param keyId The property id.
+	 * @return the numeric slot, or -1 if the property is not numeric
+	 */
+	private int getNumericSlot(int keyId) {
+		return keyId < numericSlots.length ? numericSlots[keyId] : -1;
+	}
+
+	/**
+	 * Retrieves the id of a property name, registering it in the dictionary if needed.
+	 *
+	 * @param key The property name.
+	 * @return the property id
+	 */
+	private int getOrCreateKeyId(String key) {
+		Integer keyId = keyIds.get(key);
+		if (keyId == null) {
+			keyId = keys.size();
+			keys.add(key);
+			keyIds.put(key, keyId);
+		}
+		return keyId;
+	}
+
+	/**
+	 * Retrieves the ids of the property names containing the given text, resolving them again only after the dictionary grew.
+	 *
+	 * @param partialKey The text the property names contain.
+	 * @return the matching property ids in registration order
+	 */
+	private int[] getPartialKeyIds(String partialKey) {
+		if (partialKeyDictionarySize != keys.size()) {
+			partialKeyIds.clear();
+			partialKeyDictionarySize = keys.size();
+		}
+		return partialKeyIds.computeIfAbsent(partialKey, partial -> IntStream.range(0, keys.size()).filter(keyId -> keys.get(keyId).contains(partial)).toArray());
+	}
+
+	/**
+	 * Returns a shared instance of short values, so equal values of different devices are stored once.
+	 *
+	 * @param value The value.
+	 * @return the shared instance, or the value itself if it is not eligible for interning
+	 */
+	private String intern(String value) {
+		if (value == null || value.length() > MAX_INTERNED_VALUE_LENGTH) {
+			return value;
+		}
+		String interned = internedValues.get(value);
+		if (interned != null) {
+			return interned;
+		}
+		if (internedValues.size() < MAX_INTERNED_VALUES) {
+			internedValues.put(value, value);
+		}
+		return value;
+	}
+}
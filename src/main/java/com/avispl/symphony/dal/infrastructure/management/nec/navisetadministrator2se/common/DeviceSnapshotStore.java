@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto.DeviceSnapshotDTO;
+
+/**
+ * On-disk store of device snapshots. Every device is kept in its own file, so a snapshot is written incrementally
+ * for the devices refreshed in a cycle only, and a partially written file never affects the other devices.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceSnapshotStore {
+	public static final int SNAPSHOT_VERSION = 2;
+	private static final String SNAPSHOT_EXTENSION = ".json";
+	private static final String TEMPORARY_EXTENSION = ".tmp";
+	private static final char ESCAPE = '_';
+
+	private final Path directory;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Constructs a DeviceSnapshotStore in the specified directory, creating it if needed.
+	 *
+	 * @param directory The directory holding the snapshot files.
+	 * @param objectMapper The mapper used to read and write the snapshot files.
+	 * @throws IOException if the directory cannot be created
+	 */
+	public DeviceSnapshotStore(Path directory, ObjectMapper objectMapper) throws IOException {
+		this.directory = Files.createDirectories(directory);
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Writes the snapshot of a device, replacing the previous one atomically. The directory is created again if it was removed.
+	 *
+	 * @param snapshot The device snapshot.
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void save(DeviceSnapshotDTO snapshot) throws IOException {
+		snapshot.setVersion(SNAPSHOT_VERSION);
+		Files.createDirectories(directory);
+		Path target = directory.resolve(getFileName(snapshot.getDeviceId()) + SNAPSHOT_EXTENSION);
+		Path temporary = directory.resolve(getFileName(snapshot.getDeviceId()) + TEMPORARY_EXTENSION);
+		objectMapper.writeValue(temporary.toFile(), snapshot);
+		Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Loads all snapshots of the current version that were saved after the given timestamp.
+	 * Unreadable, outdated or expired snapshot files are deleted. A missing directory holds no snapshots.
+	 *
+	 * @param minSavedAt The oldest accepted save timestamp.
+	 * @return the loaded device snapshots
+	 * @throws IOException if the directory cannot be listed
+	 */
+	public List<DeviceSnapshotDTO> loadAll(long minSavedAt) throws IOException {
+		List<DeviceSnapshotDTO> snapshots = new ArrayList<>();
+		if (!Files.isDirectory(directory)) {
+			return snapshots;
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SNAPSHOT_EXTENSION)) {
+			for (Path file : files) {
+				DeviceSnapshotDTO snapshot;
+				try {
+					snapshot = objectMapper.readValue(file.toFile(), DeviceSnapshotDTO.class);
+				} catch (IOException e) {
+					snapshot = null;
+				}
+				if (snapshot == null || snapshot.getVersion() != SNAPSHOT_VERSION || snapshot.getDeviceId() == null || snapshot.getSavedAt() < minSavedAt) {
+					Files.deleteIfExists(file);
+					continue;
+				}
+				snapshots.add(snapshot);
+			}
+		}
+		return snapshots;
+	}
+
+	/**
+	 * Converts a device ID into a safe file name. Letters, digits and dashes are kept, every other UTF-8 byte,
+	 * including the escape character itself, is written as the escape character followed by two hex digits,
+	 * so distinct device IDs always get distinct file names.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @return the file name without extension
+	 */
+	static String getFileName(String deviceId) {
+		StringBuilder fileName = new StringBuilder();
+		for (byte b : deviceId.getBytes(StandardCharsets.UTF_8)) {
+			char c = (char) (b & 0xFF);
+			if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-') {
+				fileName.append(c);
+			} else {
+				fileName.append(ESCAPE).append(String.format("%02X", b & 0xFF));
+			}
+		}
+		return fileName.toString();
+	}
+}
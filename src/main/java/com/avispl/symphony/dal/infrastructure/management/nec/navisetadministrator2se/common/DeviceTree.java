@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Devices of an api/tree response, with their names and folder hierarchy.
+ * Folder nodes have a {@link NaViSetAdministrator2SEConstant#DEVICE_ID} of 0, device nodes reference their folder
+ * through {@link NaViSetAdministrator2SEConstant#TREE_PARENT_ID}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceTree {
+	private final Map<String, List<String>> groupPaths;
+	private final Map<String, String> deviceNames;
+
+	/**
+	 * Constructs a DeviceTree.
+	 *
+	 * @param groupPaths The folder paths of the devices, keyed by device ID in tree order.
+	 * @param deviceNames The names of the devices, keyed by device ID.
+	 */
+	public DeviceTree(Map<String, List<String>> groupPaths, Map<String, String> deviceNames) {
+		this.groupPaths = groupPaths;
+		this.deviceNames = deviceNames;
+	}
+
+	/**
+	 * Retrieves {@link #groupPaths}
+	 *
+	 * @return map of device ID, in tree order, to the names of its folders from the root down to its direct parent
+	 */
+	public Map<String, List<String>> getGroupPaths() {
+		return groupPaths;
+	}
+
+	/**
+	 * Retrieves {@link #deviceNames}
+	 *
+	 * @return map of device ID to the name of its tree node
+	 */
+	public Map<String, String> getDeviceNames() {
+		return deviceNames;
+	}
+
+	/**
+	 * Resolves the name and folder path of every device of an api/tree response.
+	 *
+	 * @param data The data array of the api/tree response.
+	 * @return the device tree
+	 */
+	public static DeviceTree parse(JsonNode data) {
+		Map<String, JsonNode> folders = new HashMap<>();
+		List<JsonNode> devices = new ArrayList<>();
+		for (JsonNode node : data) {
+			if (!node.has(NaViSetAdministrator2SEConstant.DEVICE_ID)) {
+				continue;
+			}
+			if (NaViSetAdministrator2SEConstant.ZERO.equals(node.get(NaViSetAdministrator2SEConstant.DEVICE_ID).asText())) {
+				if (node.has(NaViSetAdministrator2SEConstant.TREE_NODE_ID)) {
+					folders.put(node.get(NaViSetAdministrator2SEConstant.TREE_NODE_ID).asText(), node);
+				}
+			} else {
+				devices.add(node);
+			}
+		}
+		Map<String, List<String>> groupPaths = new LinkedHashMap<>();
+		Map<String, String> deviceNames = new HashMap<>();
+		for (JsonNode device : devices) {
+			List<String> path = new ArrayList<>();
+			Set<String> visited = new HashSet<>();
+			JsonNode folder = folders.get(device.path(NaViSetAdministrator2SEConstant.TREE_PARENT_ID).asText());
+			while (folder != null && visited.add(folder.get(NaViSetAdministrator2SEConstant.TREE_NODE_ID).asText())) {
+				path.add(folder.path(NaViSetAdministrator2SEConstant.NAME).asText());
+				folder = folders.get(folder.path(NaViSetAdministrator2SEConstant.TREE_PARENT_ID).asText());
+			}
+			Collections.reverse(path);
+			String deviceId = device.get(NaViSetAdministrator2SEConstant.DEVICE_ID).asText();
+			groupPaths.put(deviceId, path);
+			if (device.hasNonNull(NaViSetAdministrator2SEConstant.NAME)) {
+				deviceNames.put(deviceId, device.get(NaViSetAdministrator2SEConstant.NAME).asText());
+			}
+		}
+		return new DeviceTree(groupPaths, deviceNames);
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deduplicates repeated per device failures, so a site losing connectivity does not log a stack trace per device and request.
+ * <ul>
+ * <li>The first failure of a device, endpoint and exception type is reported to be logged.
+ * Only one of them per endpoint and exception type and summary interval is logged with its stack trace, the others on a single line.</li>
+ * <li>Repeated failures are only counted, and summarized per endpoint and exception type once per summary interval.</li>
+ * <li>A successful request of the device and endpoint resets its failures, so the next failure is logged in full again.</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ErrorLogAggregator {
+	private final Map<String, Set<String>> activeFailures = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> failureCounts = new ConcurrentHashMap<>();
+	private final Set<String> tracedFailures = ConcurrentHashMap.newKeySet();
+	private final Map<String, Long> suppressedCounts = new TreeMap<>();
+	private final Map<String, Set<String>> suppressedDevices = new TreeMap<>();
+	private long lastSummaryTimestamp;
+
+	/**
+	 * Constructs an ErrorLogAggregator.
+	 *
+	 * @param now The current timestamp, the first summary period starts there.
+	 */
+	public ErrorLogAggregator(long now) {
+		this.lastSummaryTimestamp = now;
+	}
+
+	/**
+	 * Records a failure.
+	 *
+	 * @param deviceId The device ID.
+	 * @param endpoint The endpoint label.
+	 * @param error The failure.
+	 * @return {@link FailureLogMode#STACK_TRACE} for the first failure of the endpoint and exception type in the summary interval,
+	 * {@link FailureLogMode#SINGLE_LINE} for the first failure of the device, endpoint and exception type,
+	 * {@link FailureLogMode#SUPPRESSED} for repeated failures
+	 */
+	public FailureLogMode recordFailure(String deviceId, String endpoint, Throwable error) {
+		failureCounts.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+		String type = error.getClass().getSimpleName();
+		String summaryKey = endpoint + NaViSetAdministrator2SEConstant.SPACE + type;
+		if (activeFailures.computeIfAbsent(deviceId + NaViSetAdministrator2SEConstant.HASH + endpoint, key -> ConcurrentHashMap.newKeySet()).add(type)) {
+			return tracedFailures.add(summaryKey) ? FailureLogMode.STACK_TRACE : FailureLogMode.SINGLE_LINE;
+		}
+		synchronized (suppressedCounts) {
+			suppressedCounts.merge(summaryKey, 1L, Long::sum);
+			suppressedDevices.computeIfAbsent(summaryKey, key -> new HashSet<>()).add(deviceId);
+		}
+		return FailureLogMode.SUPPRESSED;
+	}
+
+	/**
+	 * Records a successful request, resetting the failures of the device and endpoint.
+	 *
+	 * @param deviceId The device ID.
+	 * @param endpoint The endpoint label.
+	 */
+	public void recordSuccess(String deviceId, String endpoint) {
+		activeFailures.remove(deviceId + NaViSetAdministrator2SEConstant.HASH + endpoint);
+	}
+
+	/**
+	 * Builds the summaries of the suppressed failures once the summary interval has elapsed, and starts a new summary period
+	 * in which the next failure of every endpoint and exception type is logged with its stack trace again.
+	 *
+	 * @param intervalMillis The summary interval in milliseconds.
+	 * @param now The current timestamp.
+	 * @return one summary per endpoint and exception type, empty while the interval has not elapsed or nothing was suppressed
+	 */
+	public List<String> drainSummaries(long intervalMillis, long now) {
+		List<String> summaries = new ArrayList<>();
+		synchronized (suppressedCounts) {
+			if (now - lastSummaryTimestamp < intervalMillis) {
+				return summaries;
+			}
+			long period = (now - lastSummaryTimestamp) / 1000;
+			suppressedCounts.forEach((key, count) -> summaries.add(String.format("%s repeated %s failures on %s devices in the last %ss",
+					count, key, suppressedDevices.get(key).size(), period)));
+			suppressedCounts.clear();
+			suppressedDevices.clear();
+			tracedFailures.clear();
+			lastSummaryTimestamp = now;
+		}
+		return summaries;
+	}
+
+	/**
+	 * Retrieves the number of failures per endpoint.
+	 *
+	 * @return map of endpoint label to its number of failures, sorted by endpoint
+	 */
+	public Map<String, Long> getFailureCounts() {
+		Map<String, Long> counts = new TreeMap<>();
+		failureCounts.forEach((endpoint, count) -> counts.put(endpoint, count.get()));
+		return counts;
+	}
+
+	/**
+	 * Retrieves the number of failures of all endpoints.
+	 *
+	 * @return the total number of failures
+	 */
+	public long getTotalFailures() {
+		return failureCounts.values().stream().mapToLong(AtomicLong::get).sum();
+	}
+
+	/**
+	 * Clears all failures and counters.
+	 */
+	public void clear() {
+		activeFailures.clear();
+		tracedFailures.clear();
+		failureCounts.clear();
+		synchronized (suppressedCounts) {
+			suppressedCounts.clear();
+			suppressedDevices.clear();
+		}
+	}
+}
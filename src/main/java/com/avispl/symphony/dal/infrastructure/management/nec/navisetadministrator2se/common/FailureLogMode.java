@@ -0,0 +1,19 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+/**
+ * Enumeration representing how a device request failure is logged, as decided by {@link ErrorLogAggregator}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum FailureLogMode {
+	STACK_TRACE,
+	SINGLE_LINE,
+	SUPPRESSED,
+	;
+}
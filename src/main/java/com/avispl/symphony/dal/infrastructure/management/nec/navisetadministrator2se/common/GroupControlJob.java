@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Progress and per device results of a control fanned out to a group of devices.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class GroupControlJob {
+	private final String action;
+	private final int total;
+	private final AtomicInteger succeeded = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+	private final Map<String, String> results = new ConcurrentHashMap<>();
+	private volatile boolean done;
+
+	/**
+	 * Constructs a GroupControlJob.
+	 *
+	 * @param action The description of the control and its target.
+	 * @param total The number of targeted devices.
+	 */
+	public GroupControlJob(String action, int total) {
+		this.action = action;
+		this.total = total;
+	}
+
+	/**
+	 * Retrieves {@link #action}
+	 *
+	 * @return value of {@link #action}
+	 */
+	public String getAction() {
+		return action;
+	}
+
+	/**
+	 * Retrieves {@link #total}
+	 *
+	 * @return value of {@link #total}
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Retrieves the number of devices the control was applied to.
+	 *
+	 * @return the number of succeeded devices
+	 */
+	public int getSucceeded() {
+		return succeeded.get();
+	}
+
+	/**
+	 * Retrieves the number of devices the control could not be applied to.
+	 *
+	 * @return the number of failed devices
+	 */
+	public int getFailed() {
+		return failed.get();
+	}
+
+	/**
+	 * Retrieves the number of devices with a result.
+	 *
+	 * @return the number of completed devices
+	 */
+	public int getCompleted() {
+		return succeeded.get() + failed.get();
+	}
+
+	/**
+	 * Records that the control was applied to a device.
+	 *
+	 * @param deviceId The device ID.
+	 */
+	public void recordSuccess(String deviceId) {
+		results.put(deviceId, NaViSetAdministrator2SEConstant.SUCCEEDED);
+		succeeded.incrementAndGet();
+	}
+
+	/**
+	 * Records that the control could not be applied to a device.
+	 *
+	 * @param deviceId The device ID.
+	 * @param reason The reason of the failure.
+	 */
+	public void recordFailure(String deviceId, String reason) {
+		results.put(deviceId, NaViSetAdministrator2SEConstant.FAILED + NaViSetAdministrator2SEConstant.COLON + NaViSetAdministrator2SEConstant.SPACE + reason);
+		failed.incrementAndGet();
+	}
+
+	/**
+	 * Retrieves the result of a device.
+	 *
+	 * @param deviceId The device ID.
+	 * @return the result of the device, or null if the device has no result
+	 */
+	public String getResult(String deviceId) {
+		return results.get(deviceId);
+	}
+
+	/**
+	 * Retrieves the devices the control could not be applied to.
+	 *
+	 * @return the sorted IDs of the failed devices
+	 */
+	public List<String> getFailedDevices() {
+		return results.entrySet().stream().filter(entry -> !NaViSetAdministrator2SEConstant.SUCCEEDED.equals(entry.getValue()))
+				.map(Map.Entry::getKey).sorted().collect(Collectors.toList());
+	}
+
+	/**
+	 * Checks whether the job is finished.
+	 *
+	 * @return true once every wave was processed or the job was interrupted
+	 */
+	public boolean isDone() {
+		return done;
+	}
+
+	/**
+	 * Marks the job as finished.
+	 */
+	public void markDone() {
+		done = true;
+	}
+}
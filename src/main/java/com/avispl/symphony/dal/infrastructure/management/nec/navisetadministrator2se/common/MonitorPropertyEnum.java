@@ -15,13 +15,13 @@ import java.util.Optional;
  * @since 1.0.0
  */
 public enum MonitorPropertyEnum {
-	LAMP_HOURS_USED("LampHoursUsed","", "TimeLampUsage(hrs)"),
-	PANEL_HOURS_USED("PanelHoursUsed","", "TimePanelUsage(hrs)"),
+	LAMP_HOURS_USED("LampHoursUsed","", "TimeLampUsage(hrs)", true),
+	PANEL_HOURS_USED("PanelHoursUsed","", "TimePanelUsage(hrs)", true),
 	TOTAL_POWER_TIME("TotalPowerTime(includingPowerSave)","", "PowerTotalTime"),
-	HORIZONTAL_FREQUENCY("HorizontalFrequency(kHz)","", "FrequencyHorizontal(kHz)"),
-	VERTICAL_FREQUENCY("VerticalFrequency(Hz)","", "FrequencyVertical(Hz)"),
-	CARBON_USAGE("TotalCarbonUsage(kgCO2)","", "CarbonUsageTotal(kgCO2)"),
-	CARBON_SAVING("TotalCarbonSavings(kgCO2)","", "CarbonSavingsTotal(kgCO2)"),
+	HORIZONTAL_FREQUENCY("HorizontalFrequency(kHz)","", "FrequencyHorizontal(kHz)", true),
+	VERTICAL_FREQUENCY("VerticalFrequency(Hz)","", "FrequencyVertical(Hz)", true),
+	CARBON_USAGE("TotalCarbonUsage(kgCO2)","", "CarbonUsageTotal(kgCO2)", true),
+	CARBON_SAVING("TotalCarbonSavings(kgCO2)","", "CarbonSavingsTotal(kgCO2)", true),
 	INTERNAL_FAN_STATUS("InternalFanStatus","", "FanStatusInternal"),
 	SLOT_FAN_STATUS("SlotFanStatus","", "FanStatusSlot"),
 	POWER_STATE("PowerState", NaViSetAdministrator2SEConstant.POWER_GROUP, "State"),
@@ -132,6 +132,7 @@ public enum MonitorPropertyEnum {
 	private final String defaultName;
 	private final String group;
 	private final String propertyName;
+	private final boolean numeric;
 
 	/**
 	 * Constructor for ControllablePropertyEnum.
@@ -141,9 +142,22 @@ public enum MonitorPropertyEnum {
 	 * @param propertyName The name of the property.
 	 */
 	MonitorPropertyEnum(String defaultName, String group, String propertyName) {
+		this(defaultName, group, propertyName, false);
+	}
+
+	/**
+	 * Constructor for ControllablePropertyEnum.
+	 *
+	 * @param defaultName The default name of the property.
+	 * @param group The group to which the property belongs.
+	 * @param propertyName The name of the property.
+	 * @param numeric Whether the property value is a number with a unit.
+	 */
+	MonitorPropertyEnum(String defaultName, String group, String propertyName, boolean numeric) {
 		this.defaultName = defaultName;
 		this.group = group;
 		this.propertyName = propertyName;
+		this.numeric = numeric;
 	}
 
 	/**
@@ -173,6 +187,15 @@ public enum MonitorPropertyEnum {
 		return propertyName;
 	}
 
+	/**
+	 * Retrieves {@link #numeric}
+	 *
+	 * @return value of {@link #numeric}
+	 */
+	public boolean isNumeric() {
+		return numeric;
+	}
+
 	/**
 	 * Retrieve a ControllablePropertyEnum by its default name.
 	 *
@@ -17,5 +17,6 @@ public class NaViSetAdministrator2SECommand {
 	public static final String SYSTEM_INFO_COMMAND = "api/about";
 	public static final String CONTROL_DATA_COMMAND = "api/devicecontrol?id=%s&vcpcode=%s";
 	public static final String DEVICE_INFO_COMMAND = "api/deviceinfo?id=%s&realtime=2&detail=0";
+	public static final String DEVICE_TELEMETRY_COMMAND = "api/deviceinfo?id=%s&realtime=1&detail=0";
 	public static final String CONTROL_COMMAND = "api/devicecontrol";
 }
@@ -20,6 +20,10 @@ public class NaViSetAdministrator2SEConstant {
 	public static final String ECO_GROUP = "ECO#";
 	public static final String NONE = "None";
 	public static final String HASH = "#";
+	public static final String COMMA = ",";
+	public static final String SLASH = "/";
+	public static final String COLON = ":";
+	public static final String PROTOCOL_SEPARATOR = "://";
 	public static final String EMPTY = "";
 	public static final String SPACE = " ";
 	public static final String HYPHEN = "-";
@@ -54,7 +58,110 @@ public class NaViSetAdministrator2SEConstant {
 	public static final String MIN_VALUE = "minvalue";
 	public static final String MAX_VALUE = "maxvalue";
 	public static final String CURRENT_VALUE = "CurrentValue";
-	public static final int START_INDEX = 0;
 	public static final int NUMBER_DEVICE_IN_INTERVAL = 16;
 	public static final int DEFAULT_NUMBER_THREAD = 8;
+	public static final long DEVICES_COLLECTION_INTERVAL = 30000;
+	public static final int DEFAULT_DATA_STALE_THRESHOLD = 600;
+	public static final String DATA_FRESHNESS_GROUP = "DataFreshness#";
+	public static final String DEVICE_INFO_AGE = "DeviceInfoAge(s)";
+	public static final String CONTROL_DATA_AGE = "ControlDataAge(s)";
+	public static final String NEXT_REFRESH = "NextRefreshIn(s)";
+	public static final String DATA_STALE = "DataStale";
+	public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 3;
+	public static final long CIRCUIT_BREAKER_INITIAL_BACKOFF = 60000;
+	public static final int DEFAULT_CIRCUIT_BREAKER_MAX_BACKOFF = 3600;
+	public static final String CIRCUIT_BREAKER_GROUP = "CircuitBreaker#";
+	public static final String CIRCUIT_BREAKER_STATE = "State";
+	public static final String CONSECUTIVE_FAILURES = "ConsecutiveFailures";
+	public static final String NEXT_PROBE = "NextProbeIn(s)";
+	public static final int DEFAULT_MIN_CONCURRENT_REQUESTS = 1;
+	public static final String REQUEST_LIMITER_GROUP = "RequestLimiter#";
+	public static final String CONCURRENCY_LIMIT = "ConcurrencyLimit";
+	public static final String IN_FLIGHT_REQUESTS = "InFlightRequests";
+	public static final String AVERAGE_LATENCY = "AverageLatency(ms)";
+	public static final String QUESTION_MARK = "?";
+	public static final String AMPERSAND = "&";
+	public static final String ID_PARAMETER = "id=";
+	public static final String BATCH = "batch";
+	public static final int HTTP_TOO_MANY_REQUESTS = 429;
+	public static final int HTTP_SERVICE_UNAVAILABLE = 503;
+	public static final String PARALLEL_PING_MODE = "Parallel";
+	public static final String PING_GROUP = "Ping#";
+	public static final String MIN_LATENCY = "MinLatency(ms)";
+	public static final String MAX_LATENCY = "MaxLatency(ms)";
+	public static final String JITTER = "Jitter(ms)";
+	public static final String PACKET_LOSS = "Loss(%)";
+	public static final String CONNECT_TIMEOUT = "ConnectTimeout(ms)";
+	public static final int CONNECT_TIMEOUT_LATENCY_FACTOR = 50;
+	public static final int MIN_CONNECT_TIMEOUT = 5000;
+	public static final long SNAPSHOT_MAX_AGE = 7 * 24 * 60 * 60 * 1000L;
+	public static final String DATA_SOURCE = "Source";
+	public static final String SNAPSHOT = "Snapshot";
+	public static final String LIVE = "Live";
+	public static final String TRUE = "True";
+	public static final String FALSE = "False";
+	public static final String FLEET_GROUP = "Fleet#";
+	public static final String DEVICES_ONLINE = "DevicesOnline";
+	public static final String DEVICES_STANDBY = "DevicesStandby";
+	public static final String DEVICES_OFFLINE = "DevicesOffline";
+	public static final String TEMPERATURE_UNIT = "(C)";
+	public static final String MIN = "Min";
+	public static final String AVG = "Avg";
+	public static final String MAX = "Max";
+	public static final String POWER_STATE_ON = "1";
+	public static final String POWER_STATE_STANDBY = "2";
+	public static final String POWER_STATE_SUSPEND = "3";
+	public static final String TEMPERATURE_ANOMALY_GROUP = "TemperatureAnomaly#";
+	public static final String ANOMALY_DETECTED = "Detected";
+	public static final String BASELINE = "Baseline";
+	public static final String RATE = "Rate";
+	public static final String RATE_UNIT = "(C/min)";
+	public static final int DEFAULT_FULL_RESYNC_INTERVAL = 600;
+	public static final int DEFAULT_STATIC_REFRESH_INTERVAL = 86400;
+	public static final int DEFAULT_SETTINGS_REFRESH_INTERVAL = 3600;
+	public static final String DEVICE_INFO_RESPONSES_GROUP = "DeviceInfoResponses#";
+	public static final String TOTAL = "Total";
+	public static final String UNCHANGED = "Unchanged";
+	public static final String SKIP_RATIO = "SkipRatio(%)";
+	public static final int DEFAULT_SYSTEM_INFO_CACHE_TTL = 86400;
+	public static final int DEFAULT_LICENSE_STATUS_CACHE_TTL = 300;
+	public static final String SERVERS_GROUP = "Servers#";
+	public static final String DEVICES = "Devices";
+	public static final String TREE_NODE_ID = "id";
+	public static final String TREE_PARENT_ID = "parentid";
+	public static final int DEFAULT_GROUP_SHARE = 1;
+	public static final String TREE_GROUPS_GROUP = "TreeGroups#";
+	public static final String DEFAULT_TREE_GROUP = "Default";
+	public static final String GROUP_CONTROL_GROUP = "GroupControl#";
+	public static final String GROUP_CONTROL_TARGET = "Target";
+	public static final String GROUP_POWER_ON = "PowerOn";
+	public static final String GROUP_POWER_OFF = "PowerOff";
+	public static final String GROUP_INPUT = "Input";
+	public static final String TREE_GROUP_TARGET = "Group: ";
+	public static final String MODEL_TARGET = "Model: ";
+	public static final String LAST_ACTION = "LastAction";
+	public static final String LAST_RESULT = "LastResult";
+	public static final String STATUS = "Status";
+	public static final String PROGRESS = "Progress";
+	public static final String SUCCEEDED = "Succeeded";
+	public static final String FAILED = "Failed";
+	public static final String FAILED_DEVICES = "FailedDevices";
+	public static final String RUNNING = "Running";
+	public static final String COMPLETED = "Completed";
+	public static final String APPLYING = "Applying";
+	public static final int DEFAULT_GROUP_CONTROL_CONCURRENCY = 4;
+	public static final int DEFAULT_POWER_ON_WAVE_SIZE = 10;
+	public static final int DEFAULT_POWER_ON_WAVE_INTERVAL = 5;
+	public static final int DEFAULT_HEDGE_BUDGET = 0;
+	public static final String HEDGING_GROUP = "Hedging#";
+	public static final String HEDGED_REQUESTS = "HedgedRequests";
+	public static final String HEDGE_WINS = "HedgeWins";
+	public static final int DEFAULT_BATCH_DEADLINE = 60;
+	public static final String STRAGGLERS_GROUP = "Stragglers#";
+	public static final String LAST_CYCLE = "LastCycle";
+	public static final int DEFAULT_ERROR_SUMMARY_INTERVAL = 300;
+	public static final String FAILURES_GROUP = "Failures#";
+	public static final String DEVICE_INFO_ENDPOINT = "DeviceInfo";
+	public static final String DEVICE_INFO_BATCH_ENDPOINT = "DeviceInfoBatch";
+	public static final String CONTROL_DATA_ENDPOINT = "ControlData";
 }
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Additional NaViSet Administrator server aggregated by the same adapter.
+ * Each server keeps its own API token, concurrency limiter and device tree.
+ * Its device IDs are namespaced with the server name, so they cannot collide with the IDs of other servers.
+ * The name is the host of the server followed by its port when the URL has one, so servers sharing a host stay apart.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NavisetServer {
+	private final String name;
+	private final String baseUrl;
+	private final AdaptiveConcurrencyLimiter limiter;
+	private volatile Map<String, List<String>> groupPaths = Collections.emptyMap();
+	private volatile Map<String, String> deviceNames = Collections.emptyMap();
+	private volatile String token;
+
+	/**
+	 * Constructs a NavisetServer.
+	 *
+	 * @param name The server name, used as device ID namespace.
+	 * @param baseUrl The base URL of the server, without trailing slash.
+	 * @param limiter The concurrency limiter of the server.
+	 */
+	public NavisetServer(String name, String baseUrl, AdaptiveConcurrencyLimiter limiter) {
+		this.name = name;
+		this.baseUrl = baseUrl;
+		this.limiter = limiter;
+	}
+
+	/**
+	 * Derives the server name from its base URL: the host, followed by a colon and the port when the URL has an explicit port.
+	 *
+	 * @param baseUrl The base URL of the server.
+	 * @return the server name, or null if the URL has no host
+	 * @throws URISyntaxException if the base URL is not a valid URI
+	 */
+	public static String toName(String baseUrl) throws URISyntaxException {
+		URI uri = new URI(baseUrl);
+		if (uri.getHost() == null) {
+			return null;
+		}
+		return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + NaViSetAdministrator2SEConstant.COLON + uri.getPort();
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #limiter}
+	 *
+	 * @return value of {@link #limiter}
+	 */
+	public AdaptiveConcurrencyLimiter getLimiter() {
+		return limiter;
+	}
+
+	/**
+	 * Retrieves {@link #token}
+	 *
+	 * @return value of {@link #token}
+	 */
+	public String getToken() {
+		return token;
+	}
+
+	/**
+	 * Sets {@link #token} value
+	 *
+	 * @param token new value of {@link #token}
+	 */
+	public void setToken(String token) {
+		this.token = token;
+	}
+
+	/**
+	 * Retrieves a copy of the namespaced device IDs of the server.
+	 *
+	 * @return the namespaced device IDs
+	 */
+	public List<String> getDeviceIds() {
+		return new ArrayList<>(groupPaths.keySet());
+	}
+
+	/**
+	 * Retrieves the folder paths of the server devices.
+	 *
+	 * @return map of namespaced device ID to the names of its folders from the root down to its direct parent
+	 */
+	public Map<String, List<String>> getGroupPaths() {
+		return groupPaths;
+	}
+
+	/**
+	 * Retrieves the tree names of the server devices.
+	 *
+	 * @return map of namespaced device ID to the name of its tree node
+	 */
+	public Map<String, String> getDeviceNames() {
+		return deviceNames;
+	}
+
+	/**
+	 * Replaces the device tree of the server.
+	 *
+	 * @param rawTree The device tree, keyed by the device IDs reported by the server.
+	 */
+	public void setDeviceTree(DeviceTree rawTree) {
+		Map<String, List<String>> namespacedGroupPaths = new LinkedHashMap<>();
+		rawTree.getGroupPaths().forEach((deviceId, path) -> namespacedGroupPaths.put(toDeviceId(deviceId), path));
+		Map<String, String> namespacedNames = new HashMap<>();
+		rawTree.getDeviceNames().forEach((deviceId, name) -> namespacedNames.put(toDeviceId(deviceId), name));
+		deviceNames = Collections.unmodifiableMap(namespacedNames);
+		groupPaths = Collections.unmodifiableMap(namespacedGroupPaths);
+	}
+
+	/**
+	 * Builds the absolute URL of a request to the server.
+	 *
+	 * @param relativeUri The request URI relative to the server.
+	 * @return the absolute URL
+	 */
+	public String toUrl(String relativeUri) {
+		return baseUrl + NaViSetAdministrator2SEConstant.SLASH + relativeUri;
+	}
+
+	/**
+	 * Checks whether a request URL targets the server.
+	 *
+	 * @param uri The request URI.
+	 * @return true if the URI is an absolute URL of the server
+	 */
+	public boolean ownsUrl(String uri) {
+		return uri.startsWith(baseUrl + NaViSetAdministrator2SEConstant.SLASH);
+	}
+
+	/**
+	 * Checks whether a device ID belongs to the server.
+	 *
+	 * @param deviceId The namespaced device ID.
+	 * @return true if the device ID is in the namespace of the server
+	 */
+	public boolean ownsDevice(String deviceId) {
+		return deviceId.startsWith(name + NaViSetAdministrator2SEConstant.SLASH);
+	}
+
+	/**
+	 * Adds the server namespace to a device ID reported by the server.
+	 *
+	 * @param rawDeviceId The device ID as reported by the server.
+	 * @return the namespaced device ID
+	 */
+	public String toDeviceId(String rawDeviceId) {
+		return name + NaViSetAdministrator2SEConstant.SLASH + rawDeviceId;
+	}
+
+	/**
+	 * Removes the server namespace from a device ID.
+	 *
+	 * @param deviceId The namespaced device ID.
+	 * @return the device ID as known by the server
+	 */
+	public String toRawDeviceId(String deviceId) {
+		return deviceId.substring(name.length() + NaViSetAdministrator2SEConstant.SLASH.length());
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Utility class parsing numeric values reported by NaViSet Administrator, such as temperatures, frequencies and hours.
+ * Parsed values are returned packed into a single long holding the unscaled decimal value and the number of fraction digits,
+ * so the original text can be formatted back exactly without keeping the string.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NumericValueParser {
+	public static final long NOT_FOUND = Long.MIN_VALUE;
+	private static final int SCALE_BITS = 4;
+	private static final int MAX_SCALE = (1 << SCALE_BITS) - 1;
+	private static final int MAX_DIGITS = 17;
+	private static final char DEGREE = '°';
+
+	private NumericValueParser() {
+	}
+
+	/**
+	 * Extracts the temperature value in Celsius from the input string, such as "35.5°C", "36°C" or "35.5°C (95.9°F)".
+	 * The first Celsius reading is used; when the input only has a Fahrenheit reading, it is converted to Celsius
+	 * with at least one fraction digit. The input is scanned once, without allocating.
+	 *
+	 * @param input The input string containing temperature information.
+	 * @return the packed temperature value, or {@link #NOT_FOUND} if there is no temperature
+	 */
+	public static long parseTemperature(String input) {
+		if (input == null) {
+			return NOT_FOUND;
+		}
+		long fahrenheit = NOT_FOUND;
+		int length = input.length();
+		for (int i = 0; i < length - 1; i++) {
+			if (input.charAt(i) != DEGREE) {
+				continue;
+			}
+			char unit = input.charAt(i + 1);
+			if (unit != 'C' && (unit != 'F' || fahrenheit != NOT_FOUND)) {
+				continue;
+			}
+			int end = i > 0 && input.charAt(i - 1) == ' ' ? i - 1 : i;
+			int start = end;
+			boolean fraction = false;
+			while (start > 0) {
+				char c = input.charAt(start - 1);
+				if (isDigit(c)) {
+					start--;
+				} else if (c == '.' && !fraction && start < end) {
+					fraction = true;
+					start--;
+				} else {
+					break;
+				}
+			}
+			if (start < end && input.charAt(start) == '.') {
+				start++;
+			}
+			if (start == end) {
+				continue;
+			}
+			if (isSign(input, start - 1)) {
+				start--;
+			}
+			long packed = pack(input, start, end);
+			if (unit == 'C') {
+				return packed;
+			}
+			fahrenheit = packed;
+		}
+		return fahrenheit == NOT_FOUND ? NOT_FOUND : toCelsius(fahrenheit);
+	}
+
+	/**
+	 * Extracts the first decimal number of the input string, ignoring any unit around it, such as "31.5 kHz".
+	 * Only ASCII digits are accepted, and a minus sign only at the start of a token, so "Abc-5" is read as 5.
+	 *
+	 * @param input The input string.
+	 * @return the packed value, or {@link #NOT_FOUND} if there is no number
+	 */
+	public static long parseNumber(String input) {
+		if (input == null) {
+			return NOT_FOUND;
+		}
+		int length = input.length();
+		for (int i = 0; i < length; i++) {
+			if (isDigit(input.charAt(i))) {
+				int start = isSign(input, i - 1) ? i - 1 : i;
+				int end = i;
+				while (end < length && isDigit(input.charAt(end))) {
+					end++;
+				}
+				if (end + 1 < length && input.charAt(end) == '.' && isDigit(input.charAt(end + 1))) {
+					end++;
+					while (end < length && isDigit(input.charAt(end))) {
+						end++;
+					}
+				}
+				return pack(input, start, end);
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Retrieves the numeric value of a packed value.
+	 *
+	 * @param packed The packed value.
+	 * @return the numeric value
+	 */
+	public static double getValue(long packed) {
+		return (packed >> SCALE_BITS) / Math.pow(10, getScale(packed));
+	}
+
+	/**
+	 * Retrieves the number of fraction digits of a packed value.
+	 *
+	 * @param packed The packed value.
+	 * @return the number of fraction digits
+	 */
+	public static int getScale(long packed) {
+		return (int) (packed & MAX_SCALE);
+	}
+
+	/**
+	 * Formats a numeric value with the given number of fraction digits.
+	 *
+	 * @param value The numeric value.
+	 * @param scale The number of fraction digits.
+	 * @return the formatted value
+	 */
+	public static String format(double value, int scale) {
+		return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP).toPlainString();
+	}
+
+	/**
+	 * Converts a packed Fahrenheit value into a packed Celsius value with at least one fraction digit.
+	 *
+	 * @param fahrenheit The packed Fahrenheit value.
+	 * @return the packed Celsius value
+	 */
+	private static long toCelsius(long fahrenheit) {
+		int scale = Math.max(1, getScale(fahrenheit));
+		double celsius = (getValue(fahrenheit) - 32) * 5 / 9;
+		long unscaled = Math.round(celsius * Math.pow(10, scale));
+		return (unscaled << SCALE_BITS) | scale;
+	}
+
+	/**
+	 * Checks whether a character is an ASCII digit. Other Unicode digits are not accepted, since {@link #pack(String, int, int)}
+	 * computes the digit values from their offset to '0'.
+	 *
+	 * @param c The character.
+	 * @return true if the character is between '0' and '9'
+	 */
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Checks whether the character at the given index is a minus sign starting a number, that is a '-' at the start of the input
+	 * or after a character that is neither a letter nor a digit. The caller ensures a digit follows it.
+	 *
+	 * @param input The input string.
+	 * @param index The index of the character, possibly -1.
+	 * @return true if the character is the sign of the following number
+	 */
+	private static boolean isSign(String input, int index) {
+		if (index < 0 || input.charAt(index) != '-') {
+			return false;
+		}
+		return index == 0 || !Character.isLetterOrDigit(input.charAt(index - 1));
+	}
+
+	/**
+	 * Packs the decimal number found between the given positions.
+	 *
+	 * @param input The input string.
+	 * @param start The index of the first character of the number, possibly a minus sign.
+	 * @param end The index after the last digit of the number.
+	 * @return the packed value, or {@link #NOT_FOUND} if the number does not fit
+	 */
+	private static long pack(String input, int start, int end) {
+		boolean negative = input.charAt(start) == '-';
+		long unscaled = 0;
+		int digits = 0;
+		int scale = -1;
+		for (int i = negative ? start + 1 : start; i < end; i++) {
+			char c = input.charAt(i);
+			if (c == '.') {
+				scale = 0;
+				continue;
+			}
+			if (++digits > MAX_DIGITS) {
+				return NOT_FOUND;
+			}
+			unscaled = unscaled * 10 + (c - '0');
+			if (scale >= 0) {
+				scale++;
+			}
+		}
+		scale = Math.max(0, scale);
+		if (scale > MAX_SCALE) {
+			return NOT_FOUND;
+		}
+		return ((negative ? -unscaled : unscaled) << SCALE_BITS) | scale;
+	}
+}
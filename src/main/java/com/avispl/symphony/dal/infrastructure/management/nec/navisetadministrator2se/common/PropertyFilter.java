@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Include/exclude filter applied to device info properties while they are parsed.
+ * Entries are comma separated, an entry is either a group name (Video) or a property name (Video#Brightness, SerialNumber).
+ * <ul>
+ * <li>Excluded entries always win over included entries.</li>
+ * <li>Once anything is included, grouped properties are kept only if their group or name is included.
+ * Ungrouped properties (serial number, model name, temperatures...) are only subject to exclusion, since they identify the device.</li>
+ * <li>The {@link NaViSetAdministrator2SEConstant#CONTROL_GROUP} group is always kept.</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PropertyFilter {
+	private final Set<String> includedGroups = new HashSet<>();
+	private final Set<String> includedNames = new HashSet<>();
+	private final Set<String> excludedGroups = new HashSet<>();
+	private final Set<String> excludedNames = new HashSet<>();
+
+	/**
+	 * Constructs a PropertyFilter from its configuration.
+	 *
+	 * @param includes The comma separated included groups and properties, may be null.
+	 * @param excludes The comma separated excluded groups and properties, may be null.
+	 */
+	public PropertyFilter(String includes, String excludes) {
+		compile(includes, includedGroups, includedNames);
+		compile(excludes, excludedGroups, excludedNames);
+	}
+
+	/**
+	 * Checks whether a property is kept.
+	 *
+	 * @param group The group of the property including the trailing hash, or empty for ungrouped properties.
+	 * @param name The name of the property without its group.
+	 * @return true if the property has to be parsed and cached
+	 */
+	public boolean accept(String group, String name) {
+		if (NaViSetAdministrator2SEConstant.CONTROL_GROUP.equals(group)) {
+			return true;
+		}
+		String key = group + name;
+		if (excludedNames.contains(key) || excludedGroups.contains(group)) {
+			return false;
+		}
+		if (group.isEmpty() || (includedGroups.isEmpty() && includedNames.isEmpty())) {
+			return true;
+		}
+		return includedGroups.contains(group) || includedNames.contains(key);
+	}
+
+	/**
+	 * Checks whether a cached property is kept.
+	 *
+	 * @param property The property key, with its group and hash if the property is grouped.
+	 * @return true if the property has to be cached
+	 */
+	public boolean accept(String property) {
+		int separator = property.indexOf(NaViSetAdministrator2SEConstant.HASH);
+		if (separator < 0) {
+			return accept(NaViSetAdministrator2SEConstant.EMPTY, property);
+		}
+		return accept(property.substring(0, separator + 1), property.substring(separator + 1));
+	}
+
+	/**
+	 * Splits the configured entries into group and property name lookups.
+	 * An entry without a hash can be either a group or an ungrouped property, so it is added to both.
+	 *
+	 * @param entries The comma separated entries, may be null.
+	 * @param groups The set collecting the groups, with their trailing hash.
+	 * @param names The set collecting the property names.
+	 */
+	private static void compile(String entries, Set<String> groups, Set<String> names) {
+		if (entries == null) {
+			return;
+		}
+		for (String entry : entries.split(NaViSetAdministrator2SEConstant.COMMA)) {
+			String item = entry.trim();
+			if (item.isEmpty()) {
+				continue;
+			}
+			if (item.endsWith(NaViSetAdministrator2SEConstant.HASH)) {
+				groups.add(item);
+			} else if (item.contains(NaViSetAdministrator2SEConstant.HASH)) {
+				names.add(item);
+			} else {
+				groups.add(item + NaViSetAdministrator2SEConstant.HASH);
+				names.add(item);
+			}
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.DynamicStatisticsDefinition;
+
+/**
+ * Enumeration representing how often a class of device info properties is refreshed.
+ * Info table properties with a name the adapter does not know are classified as {@link #STATIC}: they are only updated
+ * once per static refresh interval, so a changing value of such a property may be reported up to that interval late.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum RefreshTier {
+	STATIC,
+	SETTINGS,
+	TELEMETRY,
+	;
+
+	/**
+	 * Classifies a property of the Control Settings table.
+	 * Settings groups (Power, Video, Geometry, Audio, OSD, ECO, Others) are refreshed as settings,
+	 * group-less monitor properties such as usage hours or fan status as telemetry.
+	 *
+	 * @param monitorPropertyEnum The monitor property, may be null.
+	 * @return the refresh tier of the property
+	 */
+	public static RefreshTier ofControlSetting(MonitorPropertyEnum monitorPropertyEnum) {
+		if (monitorPropertyEnum != null && monitorPropertyEnum.getGroup().isEmpty()) {
+			return TELEMETRY;
+		}
+		return SETTINGS;
+	}
+
+	/**
+	 * Classifies a property of the generic info tables.
+	 * Temperatures and known monitor properties are telemetry, everything else (serial number, manufacture date, firmware...) is static identity data,
+	 * including names the adapter does not know.
+	 *
+	 * @param name The property name.
+	 * @return the refresh tier of the property
+	 */
+	public static RefreshTier ofInfoProperty(String name) {
+		if (DynamicStatisticsDefinition.getByDefaultName(name) != null || MonitorPropertyEnum.getByDefaultName(name) != null) {
+			return TELEMETRY;
+		}
+		return STATIC;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides when a read-only request is hedged with a duplicate request.
+ * <ul>
+ * <li>A request is hedged once it takes longer than the 95th percentile of the recent latencies of its endpoint.
+ * Endpoints without {@link #MIN_SAMPLES} latencies are not hedged.</li>
+ * <li>Every request earns budget percent of a hedge and every hedge spends a whole one,
+ * so hedges never exceed the budget percentage of the requests. At most {@link #MAX_BURST} hedges can be saved up.</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RequestHedger {
+	private static final int WINDOW_SIZE = 128;
+	private static final int MIN_SAMPLES = 20;
+	private static final double PERCENTILE = 0.95;
+	private static final double MAX_BURST = 5;
+
+	private final double budgetRatio;
+	private final Map<String, long[]> latencies = new HashMap<>();
+	private final Map<String, Integer> sampleCounts = new HashMap<>();
+	private double budget;
+	private long hedgedRequests;
+	private long hedgeWins;
+
+	/**
+	 * Constructs a RequestHedger.
+	 *
+	 * @param budgetPercent The maximum number of hedges, in percent of the requests.
+	 */
+	public RequestHedger(int budgetPercent) {
+		this.budgetRatio = Math.max(0, budgetPercent) / 100.0;
+	}
+
+	/**
+	 * Records a completed request.
+	 *
+	 * @param endpoint The endpoint of the request.
+	 * @param latency The latency of the request in milliseconds.
+	 */
+	public synchronized void recordLatency(String endpoint, long latency) {
+		long[] window = latencies.computeIfAbsent(endpoint, key -> new long[WINDOW_SIZE]);
+		int count = sampleCounts.merge(endpoint, 1, Integer::sum);
+		window[(count - 1) % WINDOW_SIZE] = latency;
+	}
+
+	/**
+	 * Retrieves the time after which a request to an endpoint is hedged, and earns the hedge budget of the request.
+	 *
+	 * @param endpoint The endpoint of the request.
+	 * @return the 95th percentile latency of the endpoint in milliseconds, or -1 if the endpoint has too few latencies
+	 */
+	public synchronized long startRequest(String endpoint) {
+		budget = Math.min(MAX_BURST, budget + budgetRatio);
+		int count = sampleCounts.getOrDefault(endpoint, 0);
+		if (count < MIN_SAMPLES) {
+			return -1;
+		}
+		long[] window = Arrays.copyOf(latencies.get(endpoint), Math.min(count, WINDOW_SIZE));
+		Arrays.sort(window);
+		return window[Math.min(window.length - 1, (int) Math.ceil(window.length * PERCENTILE) - 1)];
+	}
+
+	/**
+	 * Spends a hedge from the budget.
+	 *
+	 * @return true if the budget allows a hedge
+	 */
+	public synchronized boolean tryHedge() {
+		if (budget < 1) {
+			return false;
+		}
+		budget--;
+		hedgedRequests++;
+		return true;
+	}
+
+	/**
+	 * Records that a hedge answered before the original request.
+	 */
+	public synchronized void recordHedgeWin() {
+		hedgeWins++;
+	}
+
+	/**
+	 * Retrieves {@link #hedgedRequests}
+	 *
+	 * @return value of {@link #hedgedRequests}
+	 */
+	public synchronized long getHedgedRequests() {
+		return hedgedRequests;
+	}
+
+	/**
+	 * Retrieves {@link #hedgeWins}
+	 *
+	 * @return value of {@link #hedgeWins}
+	 */
+	public synchronized long getHedgeWins() {
+		return hedgeWins;
+	}
+}
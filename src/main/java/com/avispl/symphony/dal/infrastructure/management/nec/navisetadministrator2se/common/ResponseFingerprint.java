@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+/**
+ * Content fingerprint of raw JSON responses.
+ * The fingerprint is a 64-bit FNV-1a hash over the response characters, leaving out the value of a volatile field
+ * (such as the response time), so two responses with the same content but different timestamps share a fingerprint.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ResponseFingerprint {
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private ResponseFingerprint() {
+	}
+
+	/**
+	 * Computes the fingerprint of a JSON response.
+	 *
+	 * @param body The raw response.
+	 * @param volatileField The name of the field whose values are left out.
+	 * @return the fingerprint
+	 */
+	public static long fingerprint(String body, String volatileField) {
+		long hash = FNV_OFFSET_BASIS;
+		int length = body.length();
+		int i = 0;
+		while (i < length) {
+			int valueStart = findFieldValue(body, volatileField, i);
+			if (valueStart >= 0) {
+				for (; i < valueStart; i++) {
+					hash = (hash ^ body.charAt(i)) * FNV_PRIME;
+				}
+				i = skipValue(body, valueStart);
+				continue;
+			}
+			hash = (hash ^ body.charAt(i)) * FNV_PRIME;
+			i++;
+		}
+		return hash;
+	}
+
+	/**
+	 * Extracts the first value of a field from a JSON response, without parsing the response.
+	 *
+	 * @param body The raw response.
+	 * @param field The name of the field.
+	 * @return the value without quotes, or null if the field is not found
+	 */
+	public static String extractField(String body, String field) {
+		for (int i = body.indexOf('"'); i >= 0; i = body.indexOf('"', i + 1)) {
+			int valueStart = findFieldValue(body, field, i);
+			if (valueStart >= 0) {
+				int valueEnd = skipValue(body, valueStart);
+				if (body.charAt(valueStart) == '"') {
+					return body.substring(valueStart + 1, Math.max(valueStart + 1, valueEnd - 1));
+				}
+				return body.substring(valueStart, valueEnd).trim();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether the field key starts at the given position.
+	 *
+	 * @param body The raw response.
+	 * @param field The name of the field.
+	 * @param position The position of the opening quote.
+	 * @return the position of the first character of the field value, or -1 if no such key starts at the position
+	 */
+	private static int findFieldValue(String body, String field, int position) {
+		if (body.charAt(position) != '"' || !body.startsWith(field, position + 1)) {
+			return -1;
+		}
+		int i = position + 1 + field.length();
+		if (i >= body.length() || body.charAt(i) != '"') {
+			return -1;
+		}
+		i++;
+		while (i < body.length() && Character.isWhitespace(body.charAt(i))) {
+			i++;
+		}
+		if (i >= body.length() || body.charAt(i) != ':') {
+			return -1;
+		}
+		i++;
+		while (i < body.length() && Character.isWhitespace(body.charAt(i))) {
+			i++;
+		}
+		return i < body.length() ? i : -1;
+	}
+
+	/**
+	 * Skips a string or scalar JSON value.
+	 *
+	 * @param body The raw response.
+	 * @param start The position of the first character of the value.
+	 * @return the position right after the value
+	 */
+	private static int skipValue(String body, int start) {
+		int i = start;
+		if (body.charAt(i) == '"') {
+			i++;
+			while (i < body.length() && body.charAt(i) != '"') {
+				i += body.charAt(i) == '\\' ? 2 : 1;
+			}
+			return Math.min(i + 1, body.length());
+		}
+		while (i < body.length() && body.charAt(i) != ',' && body.charAt(i) != '}' && body.charAt(i) != ']') {
+			i++;
+		}
+		return i;
+	}
+}
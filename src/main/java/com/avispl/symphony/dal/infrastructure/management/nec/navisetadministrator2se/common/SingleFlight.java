@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Deduplicates concurrent calls sharing a key.
+ * The first caller runs the call, callers arriving while it is in flight wait for it and receive the same result or exception.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SingleFlight {
+	private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Runs the call, or joins the call already in flight for the same key.
+	 *
+	 * @param key The key identifying the call.
+	 * @param call The call to run.
+	 * @param <T> The result type.
+	 * @return the result of the call
+	 * @throws Exception the exception thrown by the call
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, Callable<T> call) throws Exception {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			try {
+				return (T) existing.get();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof Exception) {
+					throw (Exception) cause;
+				}
+				throw e;
+			}
+		}
+		try {
+			T result = call.call();
+			flight.complete(result);
+			return result;
+		} catch (Exception e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Partitions devices by tree group and picks the devices of a collection cycle.
+ * Policies are comma separated entries of group name, refresh interval in seconds and an optional worker share,
+ * such as {@code Lobby:60:3,Back Office:3600:1}.
+ * <ul>
+ * <li>A device belongs to the policy of its closest folder that has one, otherwise to the default partition.</li>
+ * <li>A device is due once its data is older than the refresh interval of its partition. Devices of the default partition are always due.</li>
+ * <li>The cycle budget is split between partitions with due devices using smooth weighted round robin over their shares,
+ * so a large partition cannot starve the others and a partition without due devices leaves its share to the others.</li>
+ * </ul>
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TreeGroupScheduler {
+	private final Map<String, Long> refreshIntervals = new HashMap<>();
+	private final Map<String, Integer> shares = new HashMap<>();
+
+	/**
+	 * Constructs a TreeGroupScheduler from its configuration.
+	 *
+	 * @param policies The comma separated group policies, may be null.
+	 * @throws IllegalArgumentException if a policy is malformed
+	 */
+	public TreeGroupScheduler(String policies) {
+		if (policies == null) {
+			return;
+		}
+		for (String entry : policies.split(NaViSetAdministrator2SEConstant.COMMA)) {
+			if (entry.trim().isEmpty()) {
+				continue;
+			}
+			String[] fields = entry.split(NaViSetAdministrator2SEConstant.COLON);
+			String group = fields[0].trim();
+			if (group.isEmpty() || fields.length < 2 || fields.length > 3) {
+				throw new IllegalArgumentException("Invalid tree group policy: " + entry.trim());
+			}
+			long interval = Long.parseLong(fields[1].trim());
+			int share = fields.length == 3 ? Integer.parseInt(fields[2].trim()) : NaViSetAdministrator2SEConstant.DEFAULT_GROUP_SHARE;
+			if (interval < 0 || share < 1) {
+				throw new IllegalArgumentException("Invalid tree group policy: " + entry.trim());
+			}
+			refreshIntervals.put(group, interval * 1000);
+			shares.put(group, share);
+		}
+	}
+
+	/**
+	 * Checks whether any group policy is configured.
+	 *
+	 * @return true if no group policy is configured
+	 */
+	public boolean isEmpty() {
+		return refreshIntervals.isEmpty();
+	}
+
+	/**
+	 * Resolves the partition of a device.
+	 *
+	 * @param groupPath The names of the device folders from the root down to its direct parent.
+	 * @return the closest folder with a policy, or {@link NaViSetAdministrator2SEConstant#EMPTY} for the default partition
+	 */
+	public String resolveGroup(List<String> groupPath) {
+		for (int i = groupPath.size() - 1; i >= 0; i--) {
+			if (refreshIntervals.containsKey(groupPath.get(i))) {
+				return groupPath.get(i);
+			}
+		}
+		return NaViSetAdministrator2SEConstant.EMPTY;
+	}
+
+	/**
+	 * Retrieves the refresh interval of a partition.
+	 *
+	 * @param group The partition.
+	 * @return the refresh interval in milliseconds, 0 for the default partition
+	 */
+	public long getRefreshInterval(String group) {
+		return refreshIntervals.getOrDefault(group, 0L);
+	}
+
+	/**
+	 * Picks the devices of a collection cycle.
+	 *
+	 * @param refreshOrder The device IDs, oldest data first.
+	 * @param groupPaths Function resolving the folder path of a device.
+	 * @param fetchTimestamps Function resolving the last fetch timestamp of a device, 0 if never fetched.
+	 * @param budget The maximum number of devices to pick.
+	 * @param now The current timestamp.
+	 * @return the picked device IDs, interleaved between partitions
+	 */
+	public List<String> select(List<String> refreshOrder, Function<String, List<String>> groupPaths, ToLongFunction<String> fetchTimestamps, int budget, long now) {
+		Map<String, Deque<String>> partitions = new LinkedHashMap<>();
+		for (String deviceId : refreshOrder) {
+			String group = resolveGroup(groupPaths.apply(deviceId));
+			if (now - fetchTimestamps.applyAsLong(deviceId) >= getRefreshInterval(group)) {
+				partitions.computeIfAbsent(group, key -> new ArrayDeque<>()).add(deviceId);
+			}
+		}
+		if (partitions.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<String> selected = new ArrayList<>();
+		Map<String, Integer> currentWeights = new HashMap<>();
+		while (selected.size() < budget && !partitions.isEmpty()) {
+			int totalShare = 0;
+			String next = null;
+			for (String group : partitions.keySet()) {
+				int share = shares.getOrDefault(group, NaViSetAdministrator2SEConstant.DEFAULT_GROUP_SHARE);
+				totalShare += share;
+				int weight = currentWeights.merge(group, share, Integer::sum);
+				if (next == null || weight > currentWeights.get(next)) {
+					next = group;
+				}
+			}
+			currentWeights.merge(next, -totalShare, Integer::sum);
+			Deque<String> partition = partitions.get(next);
+			selected.add(partition.poll());
+			if (partition.isEmpty()) {
+				partitions.remove(next);
+				currentWeights.remove(next);
+			}
+		}
+		return selected;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DeviceSnapshotDTO representing the persisted cached data of a single device, used to warm-start the adapter.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceSnapshotDTO {
+	private int version;
+	private String deviceId;
+	private long savedAt;
+	private Long deviceInfoTimestamp;
+	private Long controlDataTimestamp;
+	private Map<String, String> properties;
+	private List<InputValueDTO> inputValues;
+	private VolumeValueDTO volumeValue;
+
+	/**
+	 * Retrieves {@link #version}
+	 *
+	 * @return value of {@link #version}
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Sets {@link #version} value
+	 *
+	 * @param version new value of {@link #version}
+	 */
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
+	/**
+	 * Retrieves {@link #deviceId}
+	 *
+	 * @return value of {@link #deviceId}
+	 */
+	public String getDeviceId() {
+		return deviceId;
+	}
+
+	/**
+	 * Sets {@link #deviceId} value
+	 *
+	 * @param deviceId new value of {@link #deviceId}
+	 */
+	public void setDeviceId(String deviceId) {
+		this.deviceId = deviceId;
+	}
+
+	/**
+	 * Retrieves {@link #savedAt}
+	 *
+	 * @return value of {@link #savedAt}
+	 */
+	public long getSavedAt() {
+		return savedAt;
+	}
+
+	/**
+	 * Sets {@link #savedAt} value
+	 *
+	 * @param savedAt new value of {@link #savedAt}
+	 */
+	public void setSavedAt(long savedAt) {
+		this.savedAt = savedAt;
+	}
+
+	/**
+	 * Retrieves {@link #deviceInfoTimestamp}
+	 *
+	 * @return value of {@link #deviceInfoTimestamp}
+	 */
+	public Long getDeviceInfoTimestamp() {
+		return deviceInfoTimestamp;
+	}
+
+	/**
+	 * Sets {@link #deviceInfoTimestamp} value
+	 *
+	 * @param deviceInfoTimestamp new value of {@link #deviceInfoTimestamp}
+	 */
+	public void setDeviceInfoTimestamp(Long deviceInfoTimestamp) {
+		this.deviceInfoTimestamp = deviceInfoTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #controlDataTimestamp}
+	 *
+	 * @return value of {@link #controlDataTimestamp}
+	 */
+	public Long getControlDataTimestamp() {
+		return controlDataTimestamp;
+	}
+
+	/**
+	 * Sets {@link #controlDataTimestamp} value
+	 *
+	 * @param controlDataTimestamp new value of {@link #controlDataTimestamp}
+	 */
+	public void setControlDataTimestamp(Long controlDataTimestamp) {
+		this.controlDataTimestamp = controlDataTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #properties}
+	 *
+	 * @return value of {@link #properties}
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Sets {@link #properties} value
+	 *
+	 * @param properties new value of {@link #properties}
+	 */
+	public void setProperties(Map<String, String> properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Retrieves {@link #inputValues}
+	 *
+	 * @return value of {@link #inputValues}
+	 */
+	public List<InputValueDTO> getInputValues() {
+		return inputValues;
+	}
+
+	/**
+	 * Sets {@link #inputValues} value
+	 *
+	 * @param inputValues new value of {@link #inputValues}
+	 */
+	public void setInputValues(List<InputValueDTO> inputValues) {
+		this.inputValues = inputValues;
+	}
+
+	/**
+	 * Retrieves {@link #volumeValue}
+	 *
+	 * @return value of {@link #volumeValue}
+	 */
+	public VolumeValueDTO getVolumeValue() {
+		return volumeValue;
+	}
+
+	/**
+	 * Sets {@link #volumeValue} value
+	 *
+	 * @param volumeValue new value of {@link #volumeValue}
+	 */
+	public void setVolumeValue(VolumeValueDTO volumeValue) {
+		this.volumeValue = volumeValue;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PingStatisticsDTO representing the latency distribution of a set of ping attempts.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PingStatisticsDTO {
+	private final long minLatency;
+	private final long averageLatency;
+	private final long maxLatency;
+	private final long jitter;
+	private final long p95Latency;
+	private final int lossPercentage;
+
+	/**
+	 * Constructs a PingStatisticsDTO from the latencies of the successful attempts.
+	 *
+	 * @param latencies The latencies in milliseconds of the attempts that succeeded.
+	 * @param attempts The total number of attempts.
+	 */
+	public PingStatisticsDTO(List<Long> latencies, int attempts) {
+		long min = Long.MAX_VALUE;
+		long max = 0;
+		long total = 0;
+		for (long latency : latencies) {
+			min = Math.min(min, latency);
+			max = Math.max(max, latency);
+			total += latency;
+		}
+		int received = latencies.size();
+		long average = received == 0 ? 0 : total / received;
+		double variance = 0;
+		for (long latency : latencies) {
+			variance += (latency - average) * (latency - average);
+		}
+		this.minLatency = received == 0 ? 0 : min;
+		this.averageLatency = average;
+		this.maxLatency = max;
+		this.jitter = received == 0 ? 0 : Math.round(Math.sqrt(variance / received));
+		this.lossPercentage = attempts == 0 ? 100 : (attempts - received) * 100 / attempts;
+		List<Long> sortedLatencies = new ArrayList<>(latencies);
+		Collections.sort(sortedLatencies);
+		this.p95Latency = received == 0 ? 0 : sortedLatencies.get((int) Math.ceil(received * 0.95) - 1);
+	}
+
+	/**
+	 * Retrieves {@link #minLatency}
+	 *
+	 * @return value of {@link #minLatency}
+	 */
+	public long getMinLatency() {
+		return minLatency;
+	}
+
+	/**
+	 * Retrieves {@link #averageLatency}
+	 *
+	 * @return value of {@link #averageLatency}
+	 */
+	public long getAverageLatency() {
+		return averageLatency;
+	}
+
+	/**
+	 * Retrieves {@link #maxLatency}
+	 *
+	 * @return value of {@link #maxLatency}
+	 */
+	public long getMaxLatency() {
+		return maxLatency;
+	}
+
+	/**
+	 * Retrieves {@link #jitter}
+	 *
+	 * @return value of {@link #jitter}
+	 */
+	public long getJitter() {
+		return jitter;
+	}
+
+	/**
+	 * Retrieves {@link #p95Latency}
+	 *
+	 * @return value of {@link #p95Latency}
+	 */
+	public long getP95Latency() {
+		return p95Latency;
+	}
+
+	/**
+	 * Retrieves {@link #lossPercentage}
+	 *
+	 * @return value of {@link #lossPercentage}
+	 */
+	public int getLossPercentage() {
+		return lossPercentage;
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Incremental aggregation of fleet-wide statistics.
+ * Each device contribution is kept, so a changed device only replaces its own contribution in the running totals,
+ * and reading the totals never walks the fleet.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FleetStatisticsAggregator {
+	private static final DynamicStatisticsDefinition[] TEMPERATURES = DynamicStatisticsDefinition.values();
+
+	/**
+	 * Power classes of a device.
+	 */
+	public enum PowerClass {
+		ONLINE, STANDBY, OFFLINE
+	}
+
+	/**
+	 * Contribution of a single device to the fleet statistics.
+	 */
+	private static class DeviceContribution {
+		private PowerClass powerClass;
+		private final double[] temperatures = new double[TEMPERATURES.length];
+		private double carbonSavings = Double.NaN;
+		private double panelHours = Double.NaN;
+	}
+
+	private final Map<String, DeviceContribution> contributions = new HashMap<>();
+	private final int[] powerClassCounts = new int[PowerClass.values().length];
+	private final double[] temperatureSums = new double[TEMPERATURES.length];
+	private final int[] temperatureCounts = new int[TEMPERATURES.length];
+	private final TreeMap<Double, Integer>[] temperatureValues;
+	private double totalCarbonSavings;
+	private double totalPanelHours;
+
+	/**
+	 * Constructs an empty FleetStatisticsAggregator.
+	 */
+	@SuppressWarnings("unchecked")
+	public FleetStatisticsAggregator() {
+		temperatureValues = new TreeMap[TEMPERATURES.length];
+		for (int i = 0; i < TEMPERATURES.length; i++) {
+			temperatureValues[i] = new TreeMap<>();
+		}
+	}
+
+	/**
+	 * Replaces the contribution of a device with its latest values.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param powerClass The power class of the device.
+	 * @param temperatures The temperatures of the device in {@link DynamicStatisticsDefinition} order, NaN when not reported.
+	 * @param carbonSavings The total carbon savings of the device, NaN when not reported.
+	 * @param panelHours The panel usage hours of the device, NaN when not reported.
+	 */
+	public synchronized void update(String deviceId, PowerClass powerClass, double[] temperatures, double carbonSavings, double panelHours) {
+		DeviceContribution previous = contributions.get(deviceId);
+		if (previous != null) {
+			apply(previous, -1);
+		}
+		DeviceContribution contribution = new DeviceContribution();
+		contribution.powerClass = powerClass;
+		System.arraycopy(temperatures, 0, contribution.temperatures, 0, TEMPERATURES.length);
+		contribution.carbonSavings = carbonSavings;
+		contribution.panelHours = panelHours;
+		contributions.put(deviceId, contribution);
+		apply(contribution, 1);
+	}
+
+	/**
+	 * Removes all device contributions.
+	 */
+	public synchronized void clear() {
+		contributions.clear();
+		Arrays.fill(powerClassCounts, 0);
+		Arrays.fill(temperatureSums, 0);
+		Arrays.fill(temperatureCounts, 0);
+		for (TreeMap<Double, Integer> values : temperatureValues) {
+			values.clear();
+		}
+		totalCarbonSavings = 0;
+		totalPanelHours = 0;
+	}
+
+	/**
+	 * Retrieves the number of devices in a power class.
+	 *
+	 * @param powerClass The power class.
+	 * @return the number of devices
+	 */
+	public synchronized int getCount(PowerClass powerClass) {
+		return powerClassCounts[powerClass.ordinal()];
+	}
+
+	/**
+	 * Retrieves the number of devices reporting a temperature.
+	 *
+	 * @param definition The temperature definition.
+	 * @return the number of devices
+	 */
+	public synchronized int getTemperatureCount(DynamicStatisticsDefinition definition) {
+		return temperatureCounts[definition.ordinal()];
+	}
+
+	/**
+	 * Retrieves the lowest reported temperature.
+	 *
+	 * @param definition The temperature definition.
+	 * @return the lowest temperature, or NaN if no device reports it
+	 */
+	public synchronized double getMinTemperature(DynamicStatisticsDefinition definition) {
+		TreeMap<Double, Integer> values = temperatureValues[definition.ordinal()];
+		return values.isEmpty() ? Double.NaN : values.firstKey();
+	}
+
+	/**
+	 * Retrieves the highest reported temperature.
+	 *
+	 * @param definition The temperature definition.
+	 * @return the highest temperature, or NaN if no device reports it
+	 */
+	public synchronized double getMaxTemperature(DynamicStatisticsDefinition definition) {
+		TreeMap<Double, Integer> values = temperatureValues[definition.ordinal()];
+		return values.isEmpty() ? Double.NaN : values.lastKey();
+	}
+
+	/**
+	 * Retrieves the average reported temperature.
+	 *
+	 * @param definition The temperature definition.
+	 * @return the average temperature, or NaN if no device reports it
+	 */
+	public synchronized double getAverageTemperature(DynamicStatisticsDefinition definition) {
+		int count = temperatureCounts[definition.ordinal()];
+		return count == 0 ? Double.NaN : temperatureSums[definition.ordinal()] / count;
+	}
+
+	/**
+	 * Retrieves {@link #totalCarbonSavings}
+	 *
+	 * @return value of {@link #totalCarbonSavings}
+	 */
+	public synchronized double getTotalCarbonSavings() {
+		return totalCarbonSavings;
+	}
+
+	/**
+	 * Retrieves {@link #totalPanelHours}
+	 *
+	 * @return value of {@link #totalPanelHours}
+	 */
+	public synchronized double getTotalPanelHours() {
+		return totalPanelHours;
+	}
+
+	/**
+	 * Adds or removes a device contribution to the running totals.
+	 *
+	 * @param contribution The device contribution.
+	 * @param sign 1 to add the contribution, -1 to remove it.
+	 */
+	private void apply(DeviceContribution contribution, int sign) {
+		powerClassCounts[contribution.powerClass.ordinal()] += sign;
+		for (int i = 0; i < TEMPERATURES.length; i++) {
+			double temperature = contribution.temperatures[i];
+			if (Double.isNaN(temperature)) {
+				continue;
+			}
+			temperatureSums[i] += sign * temperature;
+			temperatureCounts[i] += sign;
+			temperatureValues[i].merge(temperature, sign, (count, delta) -> count + delta == 0 ? null : count + delta);
+		}
+		if (!Double.isNaN(contribution.carbonSavings)) {
+			totalCarbonSavings += sign * contribution.carbonSavings;
+		}
+		if (!Double.isNaN(contribution.panelHours)) {
+			totalPanelHours += sign * contribution.panelHours;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming temperature anomaly detector.
+ * For every device and {@link DynamicStatisticsDefinition} it keeps an exponentially weighted mean and variance and the rate of change,
+ * so a reading is compared with the device's own history without keeping the history itself.
+ * Devices of the same model form a peer group, a reading far away from the peer group mean is flagged as well.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TemperatureAnomalyDetector {
+	private static final int SENSORS = DynamicStatisticsDefinition.values().length;
+	private static final double ALPHA = 0.2;
+	private static final int WARM_UP_SAMPLES = 5;
+	private static final double MIN_DEVIATION = 0.5;
+	private static final double DEVIATION_THRESHOLD = 3;
+	private static final double RATE_THRESHOLD = 2;
+	private static final int MIN_PEERS = 3;
+	private static final double MILLISECONDS_IN_MINUTE = 60000d;
+
+	/**
+	 * Anomaly kinds, ordered by priority.
+	 */
+	public enum Anomaly {
+		NONE("None"), PEER("PeerOutlier"), RATE("RapidChange"), SPIKE("Spike");
+
+		private final String name;
+
+		Anomaly(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Fixed-size series state of a single device, indexed by {@link DynamicStatisticsDefinition#ordinal()}.
+	 */
+	private static class DeviceSeries {
+		private String model;
+		private final double[] mean = new double[SENSORS];
+		private final double[] variance = new double[SENSORS];
+		private final double[] lastValue = new double[SENSORS];
+		private final double[] rate = new double[SENSORS];
+		private final long[] lastTimestamp = new long[SENSORS];
+		private final int[] samples = new int[SENSORS];
+		private final Anomaly[] anomaly = new Anomaly[SENSORS];
+	}
+
+	/**
+	 * Running sums of the latest readings of every device of a model.
+	 */
+	private static class PeerGroup {
+		private final double[] sum = new double[SENSORS];
+		private final double[] sumOfSquares = new double[SENSORS];
+		private final int[] count = new int[SENSORS];
+	}
+
+	private final Map<String, DeviceSeries> series = new HashMap<>();
+	private final Map<String, PeerGroup> peerGroups = new HashMap<>();
+
+	/**
+	 * Adds the latest temperature readings of a device.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param model The model of the device, may be null.
+	 * @param temperatures The readings in {@link DynamicStatisticsDefinition} order, NaN when not reported.
+	 * @param timestamp The time of the readings.
+	 */
+	public synchronized void update(String deviceId, String model, double[] temperatures, long timestamp) {
+		DeviceSeries device = series.get(deviceId);
+		if (device == null) {
+			device = new DeviceSeries();
+			series.put(deviceId, device);
+		} else {
+			applyToPeerGroup(device, -1);
+		}
+		device.model = model;
+		for (int i = 0; i < SENSORS; i++) {
+			double value = temperatures[i];
+			if (Double.isNaN(value)) {
+				device.samples[i] = 0;
+				device.anomaly[i] = null;
+				continue;
+			}
+			if (device.samples[i] == 0) {
+				device.mean[i] = value;
+				device.variance[i] = 0;
+				device.rate[i] = 0;
+				device.anomaly[i] = Anomaly.NONE;
+			} else if (timestamp > device.lastTimestamp[i]) {
+				device.rate[i] = (value - device.lastValue[i]) * MILLISECONDS_IN_MINUTE / (timestamp - device.lastTimestamp[i]);
+				double diff = value - device.mean[i];
+				Anomaly anomaly = Anomaly.NONE;
+				if (device.samples[i] >= WARM_UP_SAMPLES) {
+					if (Math.abs(diff) > DEVIATION_THRESHOLD * Math.max(Math.sqrt(device.variance[i]), MIN_DEVIATION)) {
+						anomaly = Anomaly.SPIKE;
+					} else if (Math.abs(device.rate[i]) > RATE_THRESHOLD) {
+						anomaly = Anomaly.RATE;
+					}
+				}
+				device.anomaly[i] = anomaly;
+				double increment = ALPHA * diff;
+				device.mean[i] += increment;
+				device.variance[i] = (1 - ALPHA) * (device.variance[i] + diff * increment);
+			} else {
+				continue;
+			}
+			device.lastValue[i] = value;
+			device.lastTimestamp[i] = timestamp;
+			device.samples[i]++;
+		}
+		applyToPeerGroup(device, 1);
+	}
+
+	/**
+	 * Retrieves the anomaly of a device temperature, taking its peer group into account.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param definition The temperature definition.
+	 * @return the anomaly, or null if the device does not report the temperature
+	 */
+	public synchronized Anomaly getAnomaly(String deviceId, DynamicStatisticsDefinition definition) {
+		DeviceSeries device = series.get(deviceId);
+		int i = definition.ordinal();
+		if (device == null || device.anomaly[i] == null) {
+			return null;
+		}
+		if (device.anomaly[i] != Anomaly.NONE || device.model == null) {
+			return device.anomaly[i];
+		}
+		PeerGroup group = peerGroups.get(device.model);
+		double value = device.lastValue[i];
+		int count = group.count[i] - 1;
+		if (count < MIN_PEERS) {
+			return Anomaly.NONE;
+		}
+		double peerMean = (group.sum[i] - value) / count;
+		double peerVariance = Math.max((group.sumOfSquares[i] - value * value) / count - peerMean * peerMean, 0);
+		double deviation = Math.abs(value - peerMean);
+		return deviation > DEVIATION_THRESHOLD * Math.max(Math.sqrt(peerVariance), MIN_DEVIATION) ? Anomaly.PEER : Anomaly.NONE;
+	}
+
+	/**
+	 * Retrieves the smoothed baseline of a device temperature.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param definition The temperature definition.
+	 * @return the baseline, or NaN if the device does not report the temperature
+	 */
+	public synchronized double getBaseline(String deviceId, DynamicStatisticsDefinition definition) {
+		DeviceSeries device = series.get(deviceId);
+		return device == null || device.samples[definition.ordinal()] == 0 ? Double.NaN : device.mean[definition.ordinal()];
+	}
+
+	/**
+	 * Retrieves the rate of change of a device temperature in degrees per minute.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param definition The temperature definition.
+	 * @return the rate of change, or NaN if the device does not report the temperature
+	 */
+	public synchronized double getRate(String deviceId, DynamicStatisticsDefinition definition) {
+		DeviceSeries device = series.get(deviceId);
+		return device == null || device.samples[definition.ordinal()] == 0 ? Double.NaN : device.rate[definition.ordinal()];
+	}
+
+	/**
+	 * Removes all series and peer groups.
+	 */
+	public synchronized void clear() {
+		series.clear();
+		peerGroups.clear();
+	}
+
+	/**
+	 * Adds or removes the latest readings of a device to its peer group.
+	 *
+	 * @param device The device series.
+	 * @param sign 1 to add the readings, -1 to remove them.
+	 */
+	private void applyToPeerGroup(DeviceSeries device, int sign) {
+		if (device.model == null) {
+			return;
+		}
+		PeerGroup group = peerGroups.computeIfAbsent(device.model, model -> new PeerGroup());
+		for (int i = 0; i < SENSORS; i++) {
+			if (device.samples[i] == 0) {
+				continue;
+			}
+			double value = device.lastValue[i];
+			group.sum[i] += sign * value;
+			group.sumOfSquares[i] += sign * value * value;
+			group.count[i] += sign;
+		}
+	}
+}
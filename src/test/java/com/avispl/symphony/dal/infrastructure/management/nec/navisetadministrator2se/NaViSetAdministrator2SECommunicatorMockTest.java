@@ -0,0 +1,344 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.CircuitBreakerState;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common.DeviceCircuitBreaker;
+
+/**
+ * NaViSetAdministrator2SECommunicatorMockTest includes the unit test for NaViSetAdministrator2SECommunicator against canned API responses
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NaViSetAdministrator2SECommunicatorMockTest {
+	private static final String TREE_RESPONSE = "{\"data\":[{\"id\":1,\"parentid\":0,\"name\":\"P404\",\"deviceid\":1},"
+			+ "{\"id\":2,\"parentid\":0,\"name\":\"E328\",\"deviceid\":2}]}";
+	private static final String TABLES = "\"time\":\"2026-10-19 10:00:00\",\"tables\":[{\"name\":\"Information\",\"properties\":[{\"propname\":\"Serial Number\",\"propvalue\":\"%s\"}]}]";
+	private static final String CONTROL_RESPONSE = "{\"data\":{\"control\":{\"vcpvalue\":\"1\",\"values\":[],\"minvalue\":\"0\",\"maxvalue\":\"100\"}}}";
+
+	private MockCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		communicator = new MockCommunicator();
+		communicator.setHost("127.0.0.1");
+		communicator.setLogin("");
+		communicator.setPassword("");
+		communicator.init();
+	}
+
+	@AfterEach
+	void destroy() {
+		communicator.destroy();
+	}
+
+	/**
+	 * Test case for the batch probe accepting only a data array holding every requested device.
+	 */
+	@Test
+	void testProbeBatchDeviceInfo() {
+		communicator.responder = uri -> "{\"data\":[" + deviceEntry("1") + "," + deviceEntry("2") + "]}";
+		Assert.assertTrue(communicator.probeBatchDeviceInfo(Arrays.asList("1", "2")));
+
+		communicator.responder = uri -> "{\"data\":[" + deviceEntry("1") + "]}";
+		Assert.assertFalse(communicator.probeBatchDeviceInfo(Arrays.asList("1", "2")));
+
+		communicator.responder = uri -> "{\"data\":{" + String.format(TABLES, "1") + "}}";
+		Assert.assertFalse(communicator.probeBatchDeviceInfo(Arrays.asList("1", "2")));
+
+		communicator.responder = uri -> {
+			throw new IllegalStateException("400 Bad Request");
+		};
+		Assert.assertFalse(communicator.probeBatchDeviceInfo(Arrays.asList("1", "2")));
+	}
+
+	/**
+	 * Test case for parsing a batched response: only requested devices with tables are retrieved.
+	 */
+	@Test
+	void testRetrieveDeviceInfoBatch() {
+		communicator.responder = uri -> "{\"data\":[" + deviceEntry("1") + "," + deviceEntry("9") + ",{\"deviceid\":2}]}";
+		Set<String> failedDevices = new HashSet<>();
+		Set<String> retrievedDevices = communicator.retrieveDeviceInfoBatch(Arrays.asList("1", "2"), failedDevices);
+		Assert.assertEquals(Collections.singleton("1"), retrievedDevices);
+		Assert.assertTrue(failedDevices.isEmpty());
+		Assert.assertEquals(1, communicator.requests.size());
+		Assert.assertTrue(communicator.requests.get(0).startsWith("api/deviceinfo?id=1,2&") || communicator.requests.get(0).startsWith("api/deviceinfo?id=2,1&"));
+	}
+
+	/**
+	 * Test case for a failed batched request reporting its devices for single requests instead of retrieving nothing.
+	 */
+	@Test
+	void testRetrieveDeviceInfoBatchFailure() {
+		communicator.responder = uri -> {
+			throw new IllegalStateException("500 Internal Server Error");
+		};
+		Set<String> failedDevices = new HashSet<>();
+		Assert.assertTrue(communicator.retrieveDeviceInfoBatch(Arrays.asList("1", "2"), failedDevices).isEmpty());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("1", "2")), failedDevices);
+
+		communicator.responder = uri -> "{\"data\":{}}";
+		failedDevices.clear();
+		Assert.assertTrue(communicator.retrieveDeviceInfoBatch(Arrays.asList("1", "2"), failedDevices).isEmpty());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("1", "2")), failedDevices);
+	}
+
+	/**
+	 * Test case for a collection cycle falling back to single device info requests when the batched request fails,
+	 * so both devices are still refreshed and their control data retrieved.
+	 */
+	@Test
+	void testBatchFailureFallsBackToSingleRequests() throws Exception {
+		communicator.responder = uri -> {
+			if (uri.startsWith("api/tree")) {
+				return TREE_RESPONSE;
+			}
+			if (uri.startsWith("api/deviceinfo?id=1,2&realtime=1") || uri.startsWith("api/deviceinfo?id=2,1&realtime=1")) {
+				return "{\"data\":[" + deviceEntry("1") + "," + deviceEntry("2") + "]}";
+			}
+			if (uri.startsWith("api/deviceinfo?id=1,2&") || uri.startsWith("api/deviceinfo?id=2,1&")) {
+				throw new IllegalStateException("500 Internal Server Error");
+			}
+			if (uri.startsWith("api/deviceinfo?id=")) {
+				return "{\"data\":{" + String.format(TABLES, "SN") + "}}";
+			}
+			return CONTROL_RESPONSE;
+		};
+		Assert.assertTrue(communicator.checkValidCookieSession());
+		communicator.populateDeviceDetails(communicator.getCycleDeadline());
+
+		Assert.assertTrue(communicator.requests.contains("api/deviceinfo?id=1&realtime=2&detail=0"));
+		Assert.assertTrue(communicator.requests.contains("api/deviceinfo?id=2&realtime=2&detail=0"));
+		Assert.assertTrue(communicator.requests.contains("api/devicecontrol?id=1&vcpcode=65545"));
+		Assert.assertTrue(communicator.requests.contains("api/devicecontrol?id=2&vcpcode=65545"));
+	}
+
+	/**
+	 * Test case for the limiter endpoint labels telling request variants with different latency profiles apart.
+	 */
+	@Test
+	void testLimiterEndpoint() {
+		Assert.assertEquals("GET api/deviceinfo realtime=1 detail=0", communicator.getLimiterEndpoint(HttpMethod.GET, "api/deviceinfo?id=4&realtime=1&detail=0"));
+		Assert.assertEquals("GET api/deviceinfo realtime=2 detail=0", communicator.getLimiterEndpoint(HttpMethod.GET, "api/deviceinfo?id=4&realtime=2&detail=0"));
+		Assert.assertEquals("GET api/deviceinfo batch realtime=2 detail=0", communicator.getLimiterEndpoint(HttpMethod.GET, "api/deviceinfo?id=4,5&realtime=2&detail=0"));
+		Assert.assertEquals("GET api/devicecontrol vcpcode=96", communicator.getLimiterEndpoint(HttpMethod.GET, "api/devicecontrol?id=4&vcpcode=96"));
+		Assert.assertEquals("PUT api/devicecontrol", communicator.getLimiterEndpoint(HttpMethod.PUT, "api/devicecontrol"));
+		Assert.assertEquals("GET api/tree", communicator.getLimiterEndpoint(HttpMethod.GET, "https://10.0.0.2:8443/api/tree"));
+	}
+
+	/**
+	 * Test case for only timeouts, connection errors and 429/503 responses counting as server overload.
+	 */
+	@Test
+	void testOverloadFailure() {
+		Assert.assertTrue(communicator.isOverloadFailure(new ResourceNotReachableException("Cannot reach resource", new SocketTimeoutException())));
+		Assert.assertTrue(communicator.isOverloadFailure(new IOException(new ConnectException())));
+		Assert.assertTrue(communicator.isOverloadFailure(new CommandFailureException("127.0.0.1", "api/tree", "", 503)));
+		Assert.assertTrue(communicator.isOverloadFailure(new CommandFailureException("127.0.0.1", "api/tree", "", 429)));
+		Assert.assertFalse(communicator.isOverloadFailure(new CommandFailureException("127.0.0.1", "api/deviceinfo?id=4&realtime=2&detail=0", "", 500)));
+		Assert.assertFalse(communicator.isOverloadFailure(new IllegalStateException("Unexpected response")));
+	}
+
+	/**
+	 * Test case for device discovery requesting the power state of uncached devices only, and publishing them with the cached
+	 * power state as their only control.
+	 */
+	@Test
+	void testDiscoverDevices() throws Exception {
+		communicator.responder = uri -> uri.startsWith("api/tree") ? TREE_RESPONSE : CONTROL_RESPONSE;
+		Assert.assertTrue(communicator.checkValidCookieSession());
+		communicator.discoverDevices(communicator.getCycleDeadline());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("api/tree", "api/devicecontrol?id=1&vcpcode=65545", "api/devicecontrol?id=2&vcpcode=65545")),
+				new HashSet<>(communicator.requests));
+
+		communicator.responder = uri -> uri.startsWith("api/tree") ? TREE_RESPONSE.replace("]}", ",{\"id\":3,\"parentid\":0,\"name\":\"V554\",\"deviceid\":3}]}")
+				: CONTROL_RESPONSE;
+		Assert.assertTrue(communicator.checkValidCookieSession());
+		communicator.requests.clear();
+		communicator.discoverDevices(communicator.getCycleDeadline());
+		Assert.assertEquals(Collections.singletonList("api/devicecontrol?id=3&vcpcode=65545"), communicator.requests);
+
+		List<AggregatedDevice> aggregatedDevices = communicator.cloneAndPopulateAggregatedDeviceList();
+		Assert.assertEquals(3, aggregatedDevices.size());
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices) {
+			Assert.assertEquals("1", aggregatedDevice.getProperties().get("Controls#PowerState"));
+			Assert.assertEquals(1, aggregatedDevice.getControllableProperties().size());
+			Assert.assertEquals("Controls#PowerState", aggregatedDevice.getControllableProperties().get(0).getName());
+		}
+	}
+
+	/**
+	 * Test case for a batched device info request still in flight at the batch deadline: the cycle ends at the deadline
+	 * instead of waiting for the request, and the devices of the batch are carried over without touching their circuit breakers.
+	 * The blocked request ignores interrupts, like an HTTP request in flight.
+	 */
+	@Test
+	void testBlockedBatchRequestEndsAtDeadline() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		communicator.setBatchDeadline("1");
+		communicator.responder = uri -> {
+			if (uri.startsWith("api/tree")) {
+				return TREE_RESPONSE;
+			}
+			if (uri.startsWith("api/deviceinfo?id=1,2&realtime=1") || uri.startsWith("api/deviceinfo?id=2,1&realtime=1")) {
+				return "{\"data\":[" + deviceEntry("1") + "," + deviceEntry("2") + "]}";
+			}
+			if (uri.startsWith("api/deviceinfo?id=1,2&") || uri.startsWith("api/deviceinfo?id=2,1&")) {
+				awaitUninterruptibly(release);
+			}
+			return CONTROL_RESPONSE;
+		};
+		try {
+			Assert.assertTrue(communicator.checkValidCookieSession());
+			long deadline = communicator.getCycleDeadline();
+			communicator.populateDeviceDetails(deadline);
+
+			Assert.assertTrue(System.currentTimeMillis() < deadline + 1000);
+			Assert.assertFalse(communicator.requests.contains("api/deviceinfo?id=1&realtime=2&detail=0"));
+			Assert.assertEquals(CircuitBreakerState.CLOSED, communicator.getCircuitBreaker("1").getState());
+			Assert.assertEquals(CircuitBreakerState.CLOSED, communicator.getCircuitBreaker("2").getState());
+		} finally {
+			release.countDown();
+		}
+	}
+
+	/**
+	 * Test case for a device whose circuit breaker probe is still in flight at the batch deadline: the straggler counts as a failed probe,
+	 * so its breaker reopens instead of staying half-open and the device is polled again once the backoff elapses.
+	 * The blocked request ignores interrupts, like an HTTP request in flight.
+	 */
+	@Test
+	void testStragglerProbeIsReopened() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		communicator.setBatchDeadline("1");
+		communicator.responder = uri -> {
+			if (uri.startsWith("api/tree")) {
+				return TREE_RESPONSE;
+			}
+			if (uri.startsWith("api/deviceinfo?id=1,2&realtime=1") || uri.startsWith("api/deviceinfo?id=2,1&realtime=1")) {
+				return "{\"data\":[" + deviceEntry("1") + "," + deviceEntry("2") + "]}";
+			}
+			if (uri.startsWith("api/deviceinfo?id=1,2&") || uri.startsWith("api/deviceinfo?id=2,1&")) {
+				throw new IllegalStateException("500 Internal Server Error");
+			}
+			if (uri.startsWith("api/deviceinfo?id=2&")) {
+				awaitUninterruptibly(release);
+			}
+			if (uri.startsWith("api/deviceinfo?id=")) {
+				return "{\"data\":{" + String.format(TABLES, "SN") + "}}";
+			}
+			return CONTROL_RESPONSE;
+		};
+		DeviceCircuitBreaker circuitBreaker = communicator.getCircuitBreaker("2");
+		for (int i = 0; i < 3; i++) {
+			circuitBreaker.recordFailure(0);
+		}
+		Assert.assertTrue(circuitBreaker.canAttempt(System.currentTimeMillis()));
+		try {
+			Assert.assertTrue(communicator.checkValidCookieSession());
+			long cycleStart = System.currentTimeMillis();
+			communicator.populateDeviceDetails(communicator.getCycleDeadline());
+
+			Assert.assertTrue(communicator.requests.contains("api/deviceinfo?id=2&realtime=2&detail=0"));
+			Assert.assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+			Assert.assertEquals(4, circuitBreaker.getConsecutiveFailures());
+			Assert.assertTrue(circuitBreaker.getOpenUntil() > cycleStart);
+			Assert.assertTrue(circuitBreaker.canAttempt(circuitBreaker.getOpenUntil()));
+			Assert.assertEquals(CircuitBreakerState.CLOSED, communicator.getCircuitBreaker("1").getState());
+		} finally {
+			release.countDown();
+		}
+	}
+
+	/**
+	 * Waits for a latch, ignoring interrupts until it is released and restoring the interrupt status afterwards.
+	 *
+	 * @param latch The latch.
+	 */
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				latch.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Builds a batched device info entry.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @return the JSON entry
+	 */
+	private static String deviceEntry(String deviceId) {
+		return "{\"deviceid\":" + deviceId + "," + String.format(TABLES, "SN" + deviceId) + "}";
+	}
+
+	/**
+	 * Canned response of a request.
+	 */
+	interface Responder {
+		/**
+		 * Answers a request.
+		 *
+		 * @param uri The request URI.
+		 * @return the response body
+		 * @throws Exception if the request fails
+		 */
+		String respond(String uri) throws Exception;
+	}
+
+	/**
+	 * Communicator answering its GET requests from a {@link Responder} and recording their URIs.
+	 */
+	static class MockCommunicator extends NaViSetAdministrator2SECommunicator {
+		private final ObjectMapper mapper = new ObjectMapper();
+		final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+		volatile Responder responder = uri -> null;
+
+		@Override
+		public String doGet(String uri) throws Exception {
+			requests.add(uri);
+			return responder.respond(uri);
+		}
+
+		@Override
+		protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+			String body = doGet(uri);
+			return body == null ? null : mapper.readValue(body, responseClass);
+		}
+	}
+}
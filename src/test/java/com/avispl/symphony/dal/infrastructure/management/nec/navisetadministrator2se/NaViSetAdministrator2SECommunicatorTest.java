@@ -56,7 +56,7 @@ public class NaViSetAdministrator2SECommunicatorTest {
 	void testGetAggregatorData() throws Exception {
 		extendedStatistic = (ExtendedStatistics) naViSetAdministrator2SECommunicator.getMultipleStatistics().get(0);
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(6, statistics.size());
+		Assert.assertEquals(20, statistics.size());
 	}
 
 	/**
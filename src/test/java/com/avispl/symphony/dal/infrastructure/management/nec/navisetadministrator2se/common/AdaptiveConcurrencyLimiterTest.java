@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AdaptiveConcurrencyLimiterTest includes the unit test for AdaptiveConcurrencyLimiter
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AdaptiveConcurrencyLimiterTest {
+	private static final String ENDPOINT = "api/deviceinfo";
+
+	/**
+	 * Test case for the limit shrinking by a quarter on a failed request.
+	 */
+	@Test
+	void testMultiplicativeDecrease() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8);
+		Assert.assertEquals(8, limiter.getLimit());
+
+		limiter.acquire();
+		limiter.release(ENDPOINT, 100, false);
+		Assert.assertEquals(6, limiter.getLimit());
+	}
+
+	/**
+	 * Test case for the limit shrinking when the latency exceeds twice the baseline latency.
+	 */
+	@Test
+	void testLatencyDecrease() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8);
+		limiter.updateBaseline(ENDPOINT, 100);
+
+		limiter.acquire();
+		limiter.release(ENDPOINT, 250, true);
+		Assert.assertEquals(6, limiter.getLimit());
+	}
+
+	/**
+	 * Test case for the limit growing by roughly one request per limit-sized round of healthy requests.
+	 */
+	@Test
+	void testAdditiveIncrease() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8);
+		limiter.acquire();
+		limiter.release(ENDPOINT, 100, false);
+		Assert.assertEquals(6, limiter.getLimit());
+
+		for (int i = 0; i < 2; i++) {
+			for (int j = 0; j < 6; j++) {
+				limiter.acquire();
+			}
+			for (int j = 0; j < 6; j++) {
+				limiter.release(ENDPOINT, 100, true);
+			}
+		}
+		Assert.assertEquals(7, limiter.getLimit());
+	}
+
+	/**
+	 * Test case for the limit staying within the configured minimum and maximum.
+	 */
+	@Test
+	void testLimitClamps() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 4);
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire();
+			limiter.release(ENDPOINT, 100, false);
+		}
+		Assert.assertEquals(2, limiter.getLimit());
+
+		for (int i = 0; i < 100; i++) {
+			limiter.acquire();
+			limiter.acquire();
+			limiter.release(ENDPOINT, 100, true);
+			limiter.release(ENDPOINT, 100, true);
+		}
+		Assert.assertEquals(4, limiter.getLimit());
+
+		AdaptiveConcurrencyLimiter invalid = new AdaptiveConcurrencyLimiter(0, -1);
+		Assert.assertEquals(1, invalid.getLimit());
+	}
+
+	/**
+	 * Test case for acquire and release keeping the number of requests in flight and blocking at the limit.
+	 */
+	@Test
+	void testAcquireReleaseAccounting() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 2);
+		limiter.acquire();
+		Assert.assertTrue(limiter.hasFreeSlot());
+		limiter.acquire();
+		Assert.assertEquals(2, limiter.getInFlight());
+		Assert.assertFalse(limiter.hasFreeSlot());
+
+		Thread waiter = new Thread(() -> {
+			try {
+				limiter.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		waiter.start();
+		waiter.join(200);
+		Assert.assertTrue(waiter.isAlive());
+		Assert.assertEquals(2, limiter.getInFlight());
+
+		limiter.release(ENDPOINT, 100, true);
+		waiter.join(5000);
+		Assert.assertFalse(waiter.isAlive());
+		Assert.assertEquals(2, limiter.getInFlight());
+
+		limiter.release(ENDPOINT, 100, true);
+		limiter.release(ENDPOINT, 100, true);
+		Assert.assertEquals(0, limiter.getInFlight());
+		Assert.assertEquals(100, limiter.getBaselineLatency(ENDPOINT), 0);
+	}
+
+	/**
+	 * Test case for an abandoned request freeing its slot without shrinking the limit or touching the latencies.
+	 */
+	@Test
+	void testAbandon() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8);
+		limiter.acquire();
+		limiter.abandon();
+		Assert.assertEquals(0, limiter.getInFlight());
+		Assert.assertEquals(8, limiter.getLimit());
+		Assert.assertEquals(0, limiter.getSmoothedLatency(), 0);
+		Assert.assertEquals(0, limiter.getBaselineLatency(ENDPOINT), 0);
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AdaptiveConnectTimeoutHttpClientTest includes the unit test for AdaptiveConnectTimeoutHttpClient
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class AdaptiveConnectTimeoutHttpClientTest {
+	private static final RequestConfig DEFAULT_CONFIG = RequestConfig.custom().setConnectTimeout(30000).setSocketTimeout(30000).setConnectionRequestTimeout(30000).build();
+
+	/**
+	 * Test case for the derived connect timeout being applied on top of the default configuration, keeping the socket and pool timeouts
+	 * and the HTTP context of the caller.
+	 */
+	@Test
+	void testConnectTimeout() throws Exception {
+		RecordingHttpClient delegate = new RecordingHttpClient();
+		AdaptiveConnectTimeoutHttpClient httpClient = new AdaptiveConnectTimeoutHttpClient(delegate, target -> "10.0.0.1".equals(target.getHostName()) ? 5000 : 0);
+		HttpContext context = new BasicHttpContext();
+
+		HttpGet request = new HttpGet("http://10.0.0.1/api/tree");
+		httpClient.execute(request, context);
+		Assert.assertSame(context, delegate.context);
+		Assert.assertEquals(5000, request.getConfig().getConnectTimeout());
+		Assert.assertEquals(30000, request.getConfig().getSocketTimeout());
+		Assert.assertEquals(30000, request.getConfig().getConnectionRequestTimeout());
+
+		HttpGet otherRequest = new HttpGet("http://10.0.0.2/api/tree");
+		httpClient.execute(otherRequest, context);
+		Assert.assertNull(otherRequest.getConfig());
+	}
+
+	/**
+	 * HTTP client recording the context of the last request instead of sending it.
+	 */
+	static class RecordingHttpClient extends CloseableHttpClient implements Configurable {
+		HttpContext context;
+
+		@Override
+		protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) {
+			this.context = context;
+			return null;
+		}
+
+		@Override
+		public RequestConfig getConfig() {
+			return DEFAULT_CONFIG;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		@Deprecated
+		public HttpParams getParams() {
+			return null;
+		}
+
+		@Override
+		@Deprecated
+		public ClientConnectionManager getConnectionManager() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * DeltaEmissionTrackerTest includes the unit test for DeltaEmissionTracker
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeltaEmissionTrackerTest {
+	private static final long RESYNC_INTERVAL = 600000;
+
+	/**
+	 * Test case for emitting only changed values, then everything again after the resync interval.
+	 */
+	@Test
+	void testEmitChangedValues() {
+		DeltaEmissionTracker tracker = new DeltaEmissionTracker();
+		Assert.assertEquals(3, emitProperties(tracker, device("35", "v1"), 0).size());
+
+		Map<String, String> delta = emitProperties(tracker, device("36", "v1"), 1000);
+		Assert.assertEquals(1, delta.size());
+		Assert.assertEquals("36", delta.get("Temperature"));
+		Assert.assertTrue(emitProperties(tracker, device("36", "v1"), 2000).isEmpty());
+
+		Assert.assertEquals(3, emitProperties(tracker, device("36", "v1"), RESYNC_INTERVAL).size());
+	}
+
+	/**
+	 * Test case for a property that disappeared being cleared once, then not emitted again.
+	 */
+	@Test
+	void testEmitRemovedValues() {
+		DeltaEmissionTracker tracker = new DeltaEmissionTracker();
+		emitProperties(tracker, device("35", "v1"), 0);
+
+		AggregatedDevice device = device("35", "v1");
+		device.getProperties().remove("Firmware");
+		Map<String, String> delta = emitProperties(tracker, device, 1000);
+		Assert.assertEquals(1, delta.size());
+		Assert.assertEquals(NaViSetAdministrator2SEConstant.NONE, delta.get("Firmware"));
+		Assert.assertTrue(emitProperties(tracker, device, 2000).isEmpty());
+
+		delta = emitProperties(tracker, device("35", "v2"), 3000);
+		Assert.assertEquals(1, delta.size());
+		Assert.assertEquals("v2", delta.get("Firmware"));
+	}
+
+	/**
+	 * Emits a single device and returns its emitted properties.
+	 *
+	 * @param tracker The tracker under test.
+	 * @param device The device to emit.
+	 * @param now The current time.
+	 * @return the emitted properties
+	 */
+	private Map<String, String> emitProperties(DeltaEmissionTracker tracker, AggregatedDevice device, long now) {
+		List<AggregatedDevice> emitted = tracker.emit(Collections.singletonList(device), RESYNC_INTERVAL, now);
+		return emitted.get(0).getProperties();
+	}
+
+	/**
+	 * Builds a device with a temperature and a firmware version.
+	 *
+	 * @param temperature The temperature value.
+	 * @param firmware The firmware version.
+	 * @return the device
+	 */
+	private AggregatedDevice device(String temperature, String firmware) {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("Temperature", temperature);
+		properties.put("Firmware", firmware);
+		properties.put("SerialNumber", "1234");
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId("1");
+		device.setProperties(properties);
+		return device;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceCircuitBreakerTest includes the unit test for DeviceCircuitBreaker
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceCircuitBreakerTest {
+
+	/**
+	 * Test case for the breaker opening after the configured number of consecutive failures.
+	 */
+	@Test
+	void testOpensAfterThreshold() {
+		DeviceCircuitBreaker breaker = new DeviceCircuitBreaker(3, 1000, 8000);
+		breaker.recordFailure(0);
+		breaker.recordFailure(0);
+		Assert.assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+		Assert.assertTrue(breaker.allowRequest(0));
+
+		breaker.recordFailure(100);
+		Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+		Assert.assertEquals(3, breaker.getConsecutiveFailures());
+		Assert.assertEquals(1100, breaker.getOpenUntil());
+		Assert.assertFalse(breaker.allowRequest(500));
+	}
+
+	/**
+	 * Test case for a successful probe closing the breaker.
+	 */
+	@Test
+	void testHalfOpenProbeSucceeds() {
+		DeviceCircuitBreaker breaker = new DeviceCircuitBreaker(1, 1000, 8000);
+		breaker.recordFailure(0);
+		Assert.assertTrue(breaker.allowRequest(1000));
+		Assert.assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+
+		breaker.recordSuccess();
+		Assert.assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+		Assert.assertEquals(0, breaker.getConsecutiveFailures());
+		Assert.assertTrue(breaker.allowRequest(1000));
+	}
+
+	/**
+	 * Test case for a failed probe reopening the breaker.
+	 */
+	@Test
+	void testHalfOpenProbeFails() {
+		DeviceCircuitBreaker breaker = new DeviceCircuitBreaker(1, 1000, 8000);
+		breaker.recordFailure(0);
+		Assert.assertTrue(breaker.allowRequest(1000));
+
+		breaker.recordFailure(1000);
+		Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+		Assert.assertFalse(breaker.allowRequest(2000));
+	}
+
+	/**
+	 * Test case for the backoff doubling on every failed probe up to the maximum and resetting after a success.
+	 */
+	@Test
+	void testBackoffGrowth() {
+		DeviceCircuitBreaker breaker = new DeviceCircuitBreaker(1, 1000, 3000);
+		breaker.recordFailure(0);
+		Assert.assertEquals(1000, breaker.getOpenUntil());
+
+		Assert.assertTrue(breaker.allowRequest(1000));
+		breaker.recordFailure(1000);
+		Assert.assertEquals(3000, breaker.getOpenUntil());
+
+		Assert.assertTrue(breaker.allowRequest(3000));
+		breaker.recordFailure(3000);
+		Assert.assertEquals(6000, breaker.getOpenUntil());
+
+		Assert.assertTrue(breaker.allowRequest(6000));
+		breaker.recordSuccess();
+		breaker.recordFailure(7000);
+		Assert.assertEquals(8000, breaker.getOpenUntil());
+	}
+
+	/**
+	 * Test case for canAttempt checking the breaker without taking the single half-open probe that allowRequest hands out.
+	 */
+	@Test
+	void testCanAttemptVersusAllowRequest() {
+		DeviceCircuitBreaker breaker = new DeviceCircuitBreaker(1, 1000, 8000);
+		breaker.recordFailure(0);
+		Assert.assertFalse(breaker.canAttempt(500));
+		Assert.assertTrue(breaker.canAttempt(1000));
+		Assert.assertTrue(breaker.canAttempt(1000));
+		Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+		Assert.assertTrue(breaker.allowRequest(1000));
+		Assert.assertEquals(CircuitBreakerState.HALF_OPEN, breaker.getState());
+		Assert.assertFalse(breaker.allowRequest(1000));
+		Assert.assertFalse(breaker.canAttempt(1000));
+	}
+
+	/**
+	 * Test case for an abandoned probe reopening the breaker with a doubled backoff, so the device is attempted again later,
+	 * while abandoning without a probe in flight changes nothing.
+	 */
+	@Test
+	void testAbandonProbe() {
+		DeviceCircuitBreaker breaker = new DeviceCircuitBreaker(1, 1000, 8000);
+		breaker.abandonProbe(0);
+		Assert.assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+		Assert.assertEquals(0, breaker.getConsecutiveFailures());
+
+		breaker.recordFailure(0);
+		Assert.assertTrue(breaker.allowRequest(1000));
+		Assert.assertFalse(breaker.canAttempt(1000));
+
+		breaker.abandonProbe(1000);
+		Assert.assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+		Assert.assertEquals(3000, breaker.getOpenUntil());
+		Assert.assertFalse(breaker.canAttempt(2999));
+		Assert.assertTrue(breaker.canAttempt(3000));
+	}
+}
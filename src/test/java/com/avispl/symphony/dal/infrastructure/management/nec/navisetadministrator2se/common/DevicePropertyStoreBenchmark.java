@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DevicePropertyStoreBenchmark compares the heap used by a synthetic 10k-device fleet kept as maps and kept in the DevicePropertyStore.
+ * It is run manually from its main method and is not part of the unit test suite, since heap measurements depend on the JVM and its garbage collector.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DevicePropertyStoreBenchmark {
+	private static final int FLEET_SIZE = 10000;
+	private static final int PROPERTIES_PER_DEVICE = 100;
+
+	/**
+	 * Prints the heap used by the synthetic fleet in both representations.
+	 *
+	 * @param args unused
+	 */
+	public static void main(String[] args) {
+		long before = getUsedMemory();
+		Map<String, Map<String, String>> mapFleet = new HashMap<>();
+		for (int i = 0; i < FLEET_SIZE; i++) {
+			mapFleet.put(String.valueOf(i), createSyntheticProperties(i));
+		}
+		long mapHeap = getUsedMemory() - before;
+		int mapFleetSize = mapFleet.size();
+		mapFleet = null;
+
+		before = getUsedMemory();
+		DevicePropertyStore store = new DevicePropertyStore();
+		for (int i = 0; i < FLEET_SIZE; i++) {
+			store.putAll(String.valueOf(i), createSyntheticProperties(i));
+		}
+		long storeHeap = getUsedMemory() - before;
+
+		System.out.println(String.format("Synthetic fleet of %s devices: maps %s KB, store %s KB (%s properties on device 5000)",
+				mapFleetSize, mapHeap / 1024, storeHeap / 1024, store.toMap("5000").size()));
+	}
+
+	/**
+	 * Creates the properties of a synthetic device the way they are parsed from the API, with fresh key and value instances.
+	 *
+	 * @param index The index of the device.
+	 * @return the device properties
+	 */
+	private static Map<String, String> createSyntheticProperties(int index) {
+		Map<String, String> properties = new HashMap<>();
+		for (int i = 0; i < PROPERTIES_PER_DEVICE; i++) {
+			String group = i % 2 == 0 ? NaViSetAdministrator2SEConstant.VIDEO_GROUP : NaViSetAdministrator2SEConstant.ECO_GROUP;
+			String value = i % 10 == 0 ? "SN" + index + "-" + i : new String(i % 3 == 0 ? "Off" : "Normal");
+			properties.put(group + "Property" + i, value);
+		}
+		return properties;
+	}
+
+	/**
+	 * Retrieves the used heap after requesting garbage collection.
+	 *
+	 * @return the used heap in bytes
+	 */
+	private static long getUsedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DevicePropertyStoreTest includes the unit test for DevicePropertyStore
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DevicePropertyStoreTest {
+	private static final int FLEET_SIZE = 100;
+	private static final int PROPERTIES_PER_DEVICE = 100;
+
+	/**
+	 * Test case to verify that merged properties are materialised back unchanged.
+	 */
+	@Test
+	void testPutAndMaterialise() {
+		DevicePropertyStore store = new DevicePropertyStore();
+		Map<String, String> properties = new HashMap<>();
+		properties.put("Power#FanMode", "Auto");
+		properties.put("SerialNumber", "2800089LN");
+		store.putAll("4", properties);
+		store.update("4", "Controls#PowerState", "1");
+		store.update("7", "Controls#PowerState", "1");
+
+		Map<String, String> cachedData = store.toMap("4");
+		Assert.assertEquals(3, cachedData.size());
+		Assert.assertEquals("Auto", cachedData.get("Power#FanMode"));
+		Assert.assertEquals("1", store.get("4", "Controls#PowerState"));
+		Assert.assertFalse(store.contains("7"));
+	}
+
+	/**
+	 * Test case to verify that numeric values are parsed once, stored without units and formatted back with their precision.
+	 */
+	@Test
+	void testNumericValues() {
+		DevicePropertyStore store = new DevicePropertyStore();
+		Map<String, String> properties = new HashMap<>();
+		properties.put("IntakeTemperature", "35.50°C");
+		properties.put("ExhaustTemperature", "Not available");
+		properties.put("HorizontalFrequency(kHz)", "31.47 kHz");
+		properties.put("PanelHoursUsed", "1234");
+		store.putAll("4", properties);
+
+		Assert.assertEquals(35.5, store.getNumber("4", "IntakeTemperature"), 0.001);
+		Assert.assertEquals("35.50", store.get("4", "IntakeTemperature"));
+		Assert.assertEquals("None", store.get("4", "ExhaustTemperature"));
+		Assert.assertEquals("31.47", store.get("4", "HorizontalFrequency(kHz)"));
+		Assert.assertEquals(1234, store.getNumber("4", "PanelHoursUsed"), 0.001);
+
+		DevicePropertyStore restoredStore = new DevicePropertyStore();
+		restoredStore.restore("4", store.toMap("4"));
+		Assert.assertEquals(store.toMap("4"), restoredStore.toMap("4"));
+	}
+
+	/**
+	 * Test case to verify that a fleet sharing property names and values keeps the properties of every device apart.
+	 */
+	@Test
+	void testSyntheticFleet() {
+		DevicePropertyStore store = new DevicePropertyStore();
+		for (int i = 0; i < FLEET_SIZE; i++) {
+			store.putAll(String.valueOf(i), createSyntheticProperties(i));
+		}
+		Assert.assertEquals(createSyntheticProperties(50), store.toMap("50"));
+		Assert.assertEquals("SN99-10", store.get("99", NaViSetAdministrator2SEConstant.VIDEO_GROUP + "Property10"));
+		Assert.assertEquals("Off", store.get("0", NaViSetAdministrator2SEConstant.ECO_GROUP + "Property3"));
+	}
+
+	/**
+	 * Test case for the partial key lookup finding properties named after their table, including names registered after the first lookup.
+	 */
+	@Test
+	void testFindByPartialKey() {
+		DevicePropertyStore store = new DevicePropertyStore();
+		store.putAll("1", Collections.singletonMap("SerialNumber", "SN1"));
+		Assert.assertNull(store.findByPartialKey("1", NaViSetAdministrator2SEConstant.DEVICE_MODEL));
+
+		store.putAll("2", Collections.singletonMap("Information" + NaViSetAdministrator2SEConstant.DEVICE_MODEL, "P435"));
+		Assert.assertEquals("P435", store.findByPartialKey("2", NaViSetAdministrator2SEConstant.DEVICE_MODEL));
+		Assert.assertNull(store.findByPartialKey("1", NaViSetAdministrator2SEConstant.DEVICE_MODEL));
+		Assert.assertNull(store.findByPartialKey("3", NaViSetAdministrator2SEConstant.DEVICE_MODEL));
+
+		store.putAll("1", Collections.singletonMap(NaViSetAdministrator2SEConstant.DEVICE_MODEL, "MA551"));
+		Assert.assertEquals("MA551", store.findByPartialKey("1", NaViSetAdministrator2SEConstant.DEVICE_MODEL));
+		Assert.assertEquals("P435", store.findByPartialKey("2", NaViSetAdministrator2SEConstant.DEVICE_MODEL));
+	}
+
+	/**
+	 * Creates the properties of a synthetic device the way they are parsed from the API, with fresh key and value instances.
+	 *
+	 * @param index The index of the device.
+	 * @return the device properties
+	 */
+	private Map<String, String> createSyntheticProperties(int index) {
+		Map<String, String> properties = new HashMap<>();
+		for (int i = 0; i < PROPERTIES_PER_DEVICE; i++) {
+			String group = i % 2 == 0 ? NaViSetAdministrator2SEConstant.VIDEO_GROUP : NaViSetAdministrator2SEConstant.ECO_GROUP;
+			String value = i % 10 == 0 ? "SN" + index + "-" + i : new String(i % 3 == 0 ? "Off" : "Normal");
+			properties.put(group + "Property" + i, value);
+		}
+		return properties;
+	}
+}
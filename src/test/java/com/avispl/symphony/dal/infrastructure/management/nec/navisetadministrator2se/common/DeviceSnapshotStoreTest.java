@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto.DeviceSnapshotDTO;
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.dto.VolumeValueDTO;
+
+/**
+ * DeviceSnapshotStoreTest includes the unit test for DeviceSnapshotStore
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceSnapshotStoreTest {
+	private Path directory;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("snapshots");
+	}
+
+	@AfterEach
+	void tearDown() {
+		deleteRecursively(directory.toFile());
+	}
+
+	/**
+	 * Test case for snapshots being read back as they were written.
+	 */
+	@Test
+	void testSaveAndLoad() throws IOException {
+		DeviceSnapshotStore store = new DeviceSnapshotStore(directory, new ObjectMapper());
+		DeviceSnapshotDTO snapshot = createSnapshot("4", 1000);
+		snapshot.setDeviceInfoTimestamp(900L);
+		snapshot.setVolumeValue(new VolumeValueDTO("0", "31"));
+		store.save(snapshot);
+
+		List<DeviceSnapshotDTO> snapshots = store.loadAll(0);
+		Assert.assertEquals(1, snapshots.size());
+		DeviceSnapshotDTO loaded = snapshots.get(0);
+		Assert.assertEquals("4", loaded.getDeviceId());
+		Assert.assertEquals(DeviceSnapshotStore.SNAPSHOT_VERSION, loaded.getVersion());
+		Assert.assertEquals(1000, loaded.getSavedAt());
+		Assert.assertEquals(Long.valueOf(900), loaded.getDeviceInfoTimestamp());
+		Assert.assertEquals("Auto", loaded.getProperties().get("Power#FanMode"));
+		Assert.assertEquals("31", loaded.getVolumeValue().getMaxValue());
+	}
+
+	/**
+	 * Test case for device IDs that only differ by characters which are not allowed in file names.
+	 */
+	@Test
+	void testDistinctFileNames() throws IOException {
+		Assert.assertNotEquals(DeviceSnapshotStore.getFileName("host/1"), DeviceSnapshotStore.getFileName("host_1"));
+		Assert.assertNotEquals(DeviceSnapshotStore.getFileName("host 1"), DeviceSnapshotStore.getFileName("host_201"));
+		Assert.assertTrue(DeviceSnapshotStore.getFileName("../é:1").matches("[A-Za-z0-9_-]+"));
+
+		DeviceSnapshotStore store = new DeviceSnapshotStore(directory, new ObjectMapper());
+		store.save(createSnapshot("host/1", 1000));
+		store.save(createSnapshot("host_1", 1000));
+		Assert.assertEquals(2, store.loadAll(0).size());
+	}
+
+	/**
+	 * Test case for unreadable and expired snapshot files being deleted.
+	 */
+	@Test
+	void testCorruptAndExpiredFiles() throws IOException {
+		DeviceSnapshotStore store = new DeviceSnapshotStore(directory, new ObjectMapper());
+		store.save(createSnapshot("1", 1000));
+		store.save(createSnapshot("2", 5000));
+		Path corrupt = directory.resolve("3.json");
+		Files.write(corrupt, "{\"deviceId\":".getBytes(StandardCharsets.UTF_8));
+
+		List<DeviceSnapshotDTO> snapshots = store.loadAll(2000);
+		Assert.assertEquals(1, snapshots.size());
+		Assert.assertEquals("2", snapshots.get(0).getDeviceId());
+		Assert.assertFalse(Files.exists(corrupt));
+		Assert.assertFalse(Files.exists(directory.resolve(DeviceSnapshotStore.getFileName("1") + ".json")));
+	}
+
+	/**
+	 * Test case for the snapshot directory being created when missing, both on construction and when it is removed later.
+	 */
+	@Test
+	void testMissingDirectory() throws IOException {
+		Path missing = directory.resolve("nested").resolve("snapshots");
+		DeviceSnapshotStore store = new DeviceSnapshotStore(missing, new ObjectMapper());
+		Assert.assertTrue(Files.isDirectory(missing));
+		Assert.assertTrue(store.loadAll(0).isEmpty());
+
+		deleteRecursively(missing.toFile());
+		Assert.assertTrue(store.loadAll(0).isEmpty());
+		store.save(createSnapshot("1", 1000));
+		Assert.assertEquals(1, store.loadAll(0).size());
+	}
+
+	/**
+	 * Creates a snapshot holding a single property.
+	 *
+	 * @param deviceId The identifier of the device.
+	 * @param savedAt The save timestamp.
+	 * @return the snapshot
+	 */
+	private DeviceSnapshotDTO createSnapshot(String deviceId, long savedAt) {
+		DeviceSnapshotDTO snapshot = new DeviceSnapshotDTO();
+		snapshot.setDeviceId(deviceId);
+		snapshot.setSavedAt(savedAt);
+		Map<String, String> properties = new HashMap<>(Collections.singletonMap("Power#FanMode", "Auto"));
+		snapshot.setProperties(properties);
+		return snapshot;
+	}
+
+	/**
+	 * Deletes a file or a directory with its content.
+	 *
+	 * @param file The file or directory.
+	 */
+	private static void deleteRecursively(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				deleteRecursively(child);
+			}
+		}
+		file.delete();
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * DeviceTreeTest includes the unit test for DeviceTree
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DeviceTreeTest {
+
+	/**
+	 * Test case for resolving the name and folder path of devices
+	 */
+	@Test
+	void testParse() throws Exception {
+		String tree = "[{\"id\":1,\"parentid\":0,\"name\":\"Building A\",\"deviceid\":0},"
+				+ "{\"id\":2,\"parentid\":1,\"name\":\"Lobby\",\"deviceid\":0},"
+				+ "{\"id\":3,\"parentid\":2,\"name\":\"P404\",\"deviceid\":12},"
+				+ "{\"id\":4,\"parentid\":0,\"name\":\"E328\",\"deviceid\":14}]";
+		DeviceTree deviceTree = DeviceTree.parse(new ObjectMapper().readTree(tree));
+		Map<String, List<String>> groupPaths = deviceTree.getGroupPaths();
+		Assert.assertEquals(Arrays.asList("12", "14"), Arrays.asList(groupPaths.keySet().toArray()));
+		Assert.assertEquals(Arrays.asList("Building A", "Lobby"), groupPaths.get("12"));
+		Assert.assertEquals(Collections.emptyList(), groupPaths.get("14"));
+		Assert.assertEquals("P404", deviceTree.getDeviceNames().get("12"));
+	}
+}
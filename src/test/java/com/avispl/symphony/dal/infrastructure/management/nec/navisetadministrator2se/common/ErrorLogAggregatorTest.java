@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ErrorLogAggregatorTest includes the unit test for ErrorLogAggregator
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ErrorLogAggregatorTest {
+	private static final long INTERVAL = 300000L;
+
+	/**
+	 * Test case for logging the first failure of a device, endpoint and exception type only
+	 */
+	@Test
+	void testDeduplication() {
+		ErrorLogAggregator aggregator = new ErrorLogAggregator(0);
+		Assert.assertEquals(FailureLogMode.STACK_TRACE, aggregator.recordFailure("12", "DeviceInfo", new SocketTimeoutException()));
+		Assert.assertEquals(FailureLogMode.SUPPRESSED, aggregator.recordFailure("12", "DeviceInfo", new SocketTimeoutException()));
+		Assert.assertEquals(FailureLogMode.STACK_TRACE, aggregator.recordFailure("12", "DeviceInfo", new IOException()));
+		Assert.assertEquals(FailureLogMode.STACK_TRACE, aggregator.recordFailure("12", "ControlData", new SocketTimeoutException()));
+		Assert.assertEquals(FailureLogMode.SINGLE_LINE, aggregator.recordFailure("14", "DeviceInfo", new SocketTimeoutException()));
+		aggregator.recordSuccess("12", "DeviceInfo");
+		Assert.assertEquals(FailureLogMode.SINGLE_LINE, aggregator.recordFailure("12", "DeviceInfo", new SocketTimeoutException()));
+		Assert.assertEquals(6, aggregator.getTotalFailures());
+		Assert.assertEquals(Long.valueOf(5), aggregator.getFailureCounts().get("DeviceInfo"));
+	}
+
+	/**
+	 * Test case for a single stack trace per endpoint and exception type and summary interval across a fleet-wide outage
+	 */
+	@Test
+	void testStackTracePerInterval() {
+		ErrorLogAggregator aggregator = new ErrorLogAggregator(0);
+		Assert.assertEquals(FailureLogMode.STACK_TRACE, aggregator.recordFailure("1", "DeviceInfo", new SocketTimeoutException()));
+		for (int i = 2; i <= 100; i++) {
+			Assert.assertEquals(FailureLogMode.SINGLE_LINE, aggregator.recordFailure(String.valueOf(i), "DeviceInfo", new SocketTimeoutException()));
+		}
+		Assert.assertEquals(Collections.emptyList(), aggregator.drainSummaries(INTERVAL, INTERVAL));
+
+		Assert.assertEquals(FailureLogMode.SUPPRESSED, aggregator.recordFailure("1", "DeviceInfo", new SocketTimeoutException()));
+		aggregator.recordSuccess("2", "DeviceInfo");
+		Assert.assertEquals(FailureLogMode.STACK_TRACE, aggregator.recordFailure("2", "DeviceInfo", new SocketTimeoutException()));
+	}
+
+	/**
+	 * Test case for summarizing the suppressed failures once per interval
+	 */
+	@Test
+	void testSummaries() {
+		ErrorLogAggregator aggregator = new ErrorLogAggregator(0);
+		for (int i = 0; i < 3; i++) {
+			aggregator.recordFailure("12", "DeviceInfo", new SocketTimeoutException());
+			aggregator.recordFailure("14", "DeviceInfo", new SocketTimeoutException());
+		}
+		Assert.assertEquals(Collections.emptyList(), aggregator.drainSummaries(INTERVAL, INTERVAL - 1));
+		List<String> summaries = aggregator.drainSummaries(INTERVAL, INTERVAL);
+		Assert.assertEquals(Collections.singletonList("4 repeated DeviceInfo SocketTimeoutException failures on 2 devices in the last 300s"), summaries);
+		Assert.assertEquals(Collections.emptyList(), aggregator.drainSummaries(INTERVAL, 2 * INTERVAL));
+	}
+}
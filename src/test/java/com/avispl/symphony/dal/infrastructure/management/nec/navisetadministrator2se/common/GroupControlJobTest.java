@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GroupControlJobTest includes the unit test for GroupControlJob
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class GroupControlJobTest {
+
+	/**
+	 * Test case for progress and per device results
+	 */
+	@Test
+	void testProgressAndResults() {
+		GroupControlJob job = new GroupControlJob("PowerState On (Group: Lobby)", 4);
+		job.recordSuccess("12");
+		job.recordFailure("14", "Not supported by the device");
+		job.recordFailure("11", "Timeout");
+		Assert.assertEquals(3, job.getCompleted());
+		Assert.assertEquals(1, job.getSucceeded());
+		Assert.assertEquals(2, job.getFailed());
+		Assert.assertEquals("Succeeded", job.getResult("12"));
+		Assert.assertEquals("Failed: Timeout", job.getResult("11"));
+		Assert.assertNull(job.getResult("15"));
+		Assert.assertEquals(Arrays.asList("11", "14"), job.getFailedDevices());
+		Assert.assertFalse(job.isDone());
+		job.markDone();
+		Assert.assertTrue(job.isDone());
+	}
+}
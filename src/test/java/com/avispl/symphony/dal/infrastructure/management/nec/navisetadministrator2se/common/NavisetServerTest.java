@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NavisetServerTest includes the unit test for NavisetServer
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NavisetServerTest {
+	private final NavisetServer server = new NavisetServer("emea-naviset", "https://emea-naviset:8443", new AdaptiveConcurrencyLimiter(1, 4));
+
+	/**
+	 * Test case for namespacing the device IDs reported by the server
+	 */
+	@Test
+	void testDeviceIdNamespace() {
+		Map<String, List<String>> groupPaths = new LinkedHashMap<>();
+		groupPaths.put("12", Collections.singletonList("Lobby"));
+		groupPaths.put("14", Collections.emptyList());
+		server.setDeviceTree(new DeviceTree(groupPaths, Collections.singletonMap("12", "P404")));
+		Assert.assertEquals(Arrays.asList("emea-naviset/12", "emea-naviset/14"), server.getDeviceIds());
+		Assert.assertEquals(Collections.singletonList("Lobby"), server.getGroupPaths().get("emea-naviset/12"));
+		Assert.assertEquals("P404", server.getDeviceNames().get("emea-naviset/12"));
+		Assert.assertTrue(server.ownsDevice("emea-naviset/12"));
+		Assert.assertFalse(server.ownsDevice("12"));
+		Assert.assertFalse(server.ownsDevice("emea-naviset-2/12"));
+		Assert.assertEquals("12", server.toRawDeviceId("emea-naviset/12"));
+	}
+
+	/**
+	 * Test case for building and matching request URLs of the server
+	 */
+	@Test
+	void testRequestUrl() {
+		String url = server.toUrl("api/tree");
+		Assert.assertEquals("https://emea-naviset:8443/api/tree", url);
+		Assert.assertTrue(server.ownsUrl(url));
+		Assert.assertFalse(server.ownsUrl("https://emea-naviset:8444/api/tree"));
+		Assert.assertFalse(server.ownsUrl("api/tree"));
+	}
+
+	/**
+	 * Test case for the server name including the port, so servers on the same host do not share a namespace
+	 */
+	@Test
+	void testName() throws Exception {
+		Assert.assertEquals("emea-naviset:8443", NavisetServer.toName("https://emea-naviset:8443"));
+		Assert.assertEquals("emea-naviset:8444", NavisetServer.toName("https://emea-naviset:8444/"));
+		Assert.assertEquals("emea-naviset", NavisetServer.toName("https://emea-naviset"));
+		Assert.assertNull(NavisetServer.toName("emea-naviset"));
+
+		NavisetServer other = new NavisetServer("emea-naviset:8444", "https://emea-naviset:8444", new AdaptiveConcurrencyLimiter(1, 4));
+		NavisetServer first = new NavisetServer("emea-naviset:8443", "https://emea-naviset:8443", new AdaptiveConcurrencyLimiter(1, 4));
+		Assert.assertNotEquals(first.toDeviceId("12"), other.toDeviceId("12"));
+		Assert.assertFalse(other.ownsDevice(first.toDeviceId("12")));
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * NumericValueParserBenchmark compares the temperature scanner with the regular expression compiled on every call it replaces.
+ * It is run manually from its main method and is not part of the unit test suite, since timings depend on the JVM and the machine.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NumericValueParserBenchmark {
+	private static final String[] TEMPERATURES = { "35.5°C", "36°C", "35.5°C (95.9°F)", "95.9°F", "Not available" };
+	private static final int ITERATIONS = 1000000;
+	private static final int ROUNDS = 3;
+
+	/**
+	 * Prints the time per call of both parsers, after a warm-up round.
+	 *
+	 * @param args unused
+	 */
+	public static void main(String[] args) {
+		long checksum = 0;
+		for (int round = 0; round <= ROUNDS; round++) {
+			long startTime = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; i++) {
+				checksum += parseWithRegex(TEMPERATURES[i % TEMPERATURES.length]).length();
+			}
+			long regexTime = System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; i++) {
+				checksum += NumericValueParser.parseTemperature(TEMPERATURES[i % TEMPERATURES.length]);
+			}
+			long scannerTime = System.nanoTime() - startTime;
+
+			if (round > 0) {
+				System.out.println(String.format("Round %s, temperature parsing per call: regex %s ns, scanner %s ns", round, regexTime / ITERATIONS, scannerTime / ITERATIONS));
+			}
+		}
+		System.out.println(String.format("Checksum %s", checksum));
+	}
+
+	/**
+	 * Parses a temperature the way it was done before the scanner, compiling the pattern on every call.
+	 *
+	 * @param input The input string containing temperature information.
+	 * @return the extracted temperature, or None
+	 */
+	private static String parseWithRegex(String input) {
+		Pattern pattern = Pattern.compile("(\\d+\\.\\d+)°C");
+		Matcher matcher = pattern.matcher(input);
+		return matcher.find() ? matcher.group(1) : NaViSetAdministrator2SEConstant.NONE;
+	}
+}
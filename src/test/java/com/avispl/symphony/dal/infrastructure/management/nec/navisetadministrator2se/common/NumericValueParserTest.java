@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NumericValueParserTest includes the unit test for NumericValueParser
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NumericValueParserTest {
+	private static final String[] REGEX_TEMPERATURES = { "35.5°C", "35.50°C", "0.0°C", "35.5°C (95.9°F)", "95.9°F / 35.5°C", "Intake 41.25°C" };
+
+	/**
+	 * Test case for the supported temperature formats.
+	 */
+	@Test
+	void testParseTemperature() {
+		Assert.assertEquals("35.5", format(NumericValueParser.parseTemperature("35.5°C")));
+		Assert.assertEquals("36", format(NumericValueParser.parseTemperature("36°C")));
+		Assert.assertEquals("35.5", format(NumericValueParser.parseTemperature("95.9°F / 35.5 °C")));
+		Assert.assertEquals("35.5", format(NumericValueParser.parseTemperature("95.9°F")));
+		Assert.assertEquals("-5.0", format(NumericValueParser.parseTemperature("-5.0°C")));
+		Assert.assertEquals(NumericValueParser.NOT_FOUND, NumericValueParser.parseTemperature("Not available"));
+		Assert.assertEquals(NumericValueParser.NOT_FOUND, NumericValueParser.parseTemperature("°C"));
+	}
+
+	/**
+	 * Test case for numbers surrounded by units and text.
+	 */
+	@Test
+	void testParseNumber() {
+		Assert.assertEquals("31.5", format(NumericValueParser.parseNumber("31.5 kHz")));
+		Assert.assertEquals("1234", format(NumericValueParser.parseNumber("1234")));
+		Assert.assertEquals("-5", format(NumericValueParser.parseNumber("-5 dB")));
+		Assert.assertEquals("-5", format(NumericValueParser.parseNumber("Offset (-5)")));
+		Assert.assertEquals("12", format(NumericValueParser.parseNumber("12. hours")));
+		Assert.assertEquals(NumericValueParser.NOT_FOUND, NumericValueParser.parseNumber("Not available"));
+		Assert.assertEquals(NumericValueParser.NOT_FOUND, NumericValueParser.parseNumber(null));
+	}
+
+	/**
+	 * Test case for a dash inside a token not being read as a minus sign.
+	 */
+	@Test
+	void testParseNumberDashInsideToken() {
+		Assert.assertEquals("5", format(NumericValueParser.parseNumber("Abc-5")));
+		Assert.assertEquals("10", format(NumericValueParser.parseNumber("HDMI-10")));
+		Assert.assertEquals("2", format(NumericValueParser.parseNumber("2-3")));
+		Assert.assertEquals("5.0", format(NumericValueParser.parseTemperature("Sensor-5.0°C")));
+	}
+
+	/**
+	 * Test case for non-ASCII digits being ignored.
+	 */
+	@Test
+	void testParseNumberNonAsciiDigits() {
+		Assert.assertEquals(NumericValueParser.NOT_FOUND, NumericValueParser.parseNumber("\u0661\u0662\u0663"));
+		Assert.assertEquals("42", format(NumericValueParser.parseNumber("\u0661\u0662 42")));
+		Assert.assertEquals("7", format(NumericValueParser.parseNumber("\uFF17 7")));
+		Assert.assertEquals(NumericValueParser.NOT_FOUND, NumericValueParser.parseTemperature("\u0663\u0665°C"));
+	}
+
+	/**
+	 * Test case comparing the temperature scanner with the regular expression it replaces, on the inputs the expression accepts.
+	 */
+	@Test
+	void testParseTemperatureMatchesRegex() {
+		for (String input : REGEX_TEMPERATURES) {
+			long packed = NumericValueParser.parseTemperature(input);
+			Assert.assertNotEquals(input, NumericValueParser.NOT_FOUND, packed);
+			Assert.assertEquals(input, parseWithRegex(input), format(packed));
+		}
+	}
+
+	/**
+	 * Test case for the inputs without a temperature, which neither the scanner nor the regular expression accepts.
+	 */
+	@Test
+	void testParseTemperatureRejectedLikeRegex() {
+		for (String input : new String[] { "Not available", "", "°C", "35.5", "35.5 C", "35.5°K" }) {
+			Assert.assertEquals(input, NaViSetAdministrator2SEConstant.NONE, parseWithRegex(input));
+			Assert.assertEquals(input, NumericValueParser.NOT_FOUND, NumericValueParser.parseTemperature(input));
+		}
+	}
+
+	/**
+	 * Parses a temperature the way it was done before the scanner, compiling the pattern on every call.
+	 *
+	 * @param input The input string containing temperature information.
+	 * @return the extracted temperature, or None
+	 */
+	private String parseWithRegex(String input) {
+		Pattern pattern = Pattern.compile("(\\d+\\.\\d+)°C");
+		Matcher matcher = pattern.matcher(input);
+		return matcher.find() ? matcher.group(1) : NaViSetAdministrator2SEConstant.NONE;
+	}
+
+	/**
+	 * Formats a packed value.
+	 *
+	 * @param packed The packed value.
+	 * @return the formatted value
+	 */
+	private String format(long packed) {
+		return NumericValueParser.format(NumericValueParser.getValue(packed), NumericValueParser.getScale(packed));
+	}
+}
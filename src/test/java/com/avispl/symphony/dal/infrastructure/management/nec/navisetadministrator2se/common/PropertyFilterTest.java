@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PropertyFilterTest includes the unit test for PropertyFilter
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PropertyFilterTest {
+
+	/**
+	 * Test case for a filter keeping only the Power group and a single Video property.
+	 */
+	@Test
+	void testIncludedGroups() {
+		PropertyFilter filter = new PropertyFilter("Power, Video#Brightness", null);
+		Assert.assertTrue(filter.accept("Power#", "FanMode"));
+		Assert.assertTrue(filter.accept("Video#", "Brightness"));
+		Assert.assertFalse(filter.accept("Video#", "Contrast"));
+		Assert.assertFalse(filter.accept("OSD#", "Language"));
+		Assert.assertTrue(filter.accept("Controls#", "Volume"));
+		Assert.assertTrue(filter.accept("", "SerialNumber"));
+	}
+
+	/**
+	 * Test case for excluded groups and properties winning over included ones.
+	 */
+	@Test
+	void testExcludedProperties() {
+		PropertyFilter filter = new PropertyFilter("Power", "Power#FanMode, ECO, ManufactureDate");
+		Assert.assertTrue(filter.accept("Power#", "Save"));
+		Assert.assertFalse(filter.accept("Power#", "FanMode"));
+		Assert.assertFalse(filter.accept("ECO#", "PowerSaverTimer"));
+		Assert.assertFalse(filter.accept("", "ManufactureDate"));
+		Assert.assertTrue(new PropertyFilter(null, "").accept("Geometry#", "Zoom"));
+	}
+
+	/**
+	 * Test case for cached property keys being split into their group and name, as done for restored snapshots.
+	 */
+	@Test
+	void testPropertyKeys() {
+		PropertyFilter filter = new PropertyFilter("Power", "Power#FanMode, ManufactureDate");
+		Assert.assertTrue(filter.accept("Power#Save"));
+		Assert.assertFalse(filter.accept("Power#FanMode"));
+		Assert.assertFalse(filter.accept("Video#Brightness"));
+		Assert.assertTrue(filter.accept("Controls#PowerState"));
+		Assert.assertTrue(filter.accept("SerialNumber"));
+		Assert.assertFalse(filter.accept("ManufactureDate"));
+	}
+}
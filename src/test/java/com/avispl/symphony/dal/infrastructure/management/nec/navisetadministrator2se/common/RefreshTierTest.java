@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.DynamicStatisticsDefinition;
+
+/**
+ * RefreshTierTest includes the unit test for RefreshTier
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RefreshTierTest {
+
+	/**
+	 * Test case for Control Settings properties: group-less monitor properties are telemetry, grouped and unknown ones are settings.
+	 */
+	@Test
+	void testOfControlSetting() {
+		Assert.assertEquals(RefreshTier.TELEMETRY, RefreshTier.ofControlSetting(MonitorPropertyEnum.PANEL_HOURS_USED));
+		Assert.assertEquals(RefreshTier.TELEMETRY, RefreshTier.ofControlSetting(MonitorPropertyEnum.INTERNAL_FAN_STATUS));
+		Assert.assertEquals(RefreshTier.SETTINGS, RefreshTier.ofControlSetting(MonitorPropertyEnum.FAN_MODE));
+		Assert.assertEquals(RefreshTier.SETTINGS, RefreshTier.ofControlSetting(null));
+	}
+
+	/**
+	 * Test case for info table properties: temperatures and monitor properties are telemetry, identity data and unknown names are static.
+	 */
+	@Test
+	void testOfInfoProperty() {
+		Assert.assertEquals(RefreshTier.TELEMETRY, RefreshTier.ofInfoProperty(DynamicStatisticsDefinition.TEMPERATURE1.getDefaultName()));
+		Assert.assertEquals(RefreshTier.TELEMETRY, RefreshTier.ofInfoProperty(MonitorPropertyEnum.PANEL_HOURS_USED.getDefaultName()));
+		Assert.assertEquals(RefreshTier.STATIC, RefreshTier.ofInfoProperty("SerialNumber"));
+		Assert.assertEquals(RefreshTier.STATIC, RefreshTier.ofInfoProperty("UnknownProperty"));
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RequestHedgerTest includes the unit test for RequestHedger
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RequestHedgerTest {
+	private static final String ENDPOINT = "api/deviceinfo";
+
+	/**
+	 * Test case for the hedge delay following the 95th percentile latency
+	 */
+	@Test
+	void testHedgeDelay() {
+		RequestHedger hedger = new RequestHedger(10);
+		Assert.assertEquals(-1, hedger.startRequest(ENDPOINT));
+		for (int i = 1; i <= 100; i++) {
+			hedger.recordLatency(ENDPOINT, i);
+		}
+		Assert.assertEquals(95, hedger.startRequest(ENDPOINT));
+		Assert.assertEquals(-1, hedger.startRequest("api/tree"));
+	}
+
+	/**
+	 * Test case for hedges staying within the budget percentage
+	 */
+	@Test
+	void testBudget() {
+		RequestHedger hedger = new RequestHedger(10);
+		int hedges = 0;
+		for (int i = 0; i < 200; i++) {
+			hedger.startRequest(ENDPOINT);
+			if (hedger.tryHedge()) {
+				hedges++;
+			}
+		}
+		Assert.assertEquals(20, hedges, 1);
+		Assert.assertEquals(hedges, hedger.getHedgedRequests());
+		Assert.assertFalse(new RequestHedger(0).tryHedge());
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ResponseFingerprintTest includes the unit test for ResponseFingerprint
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ResponseFingerprintTest {
+	private static final String RESPONSE = "{\"data\":{\"time\":\"%s\",\"tables\":[{\"name\":\"Sensors\",\"properties\":[{\"propname\":\"Intake Temperature\",\"propvalue\":\"%s\"}]}]}}";
+
+	/**
+	 * Test case for responses differing only by their time sharing a fingerprint.
+	 */
+	@Test
+	void testFingerprintIgnoresTime() {
+		long first = ResponseFingerprint.fingerprint(String.format(RESPONSE, "2024-01-15 10:00:00", "35.5°C"), "time");
+		long second = ResponseFingerprint.fingerprint(String.format(RESPONSE, "2024-01-15 10:00:30", "35.5°C"), "time");
+		long changed = ResponseFingerprint.fingerprint(String.format(RESPONSE, "2024-01-15 10:00:30", "36.0°C"), "time");
+		Assert.assertEquals(first, second);
+		Assert.assertNotEquals(first, changed);
+	}
+
+	/**
+	 * Test case for reading a field without parsing the response.
+	 */
+	@Test
+	void testExtractField() {
+		Assert.assertEquals("2024-01-15 10:00:00", ResponseFingerprint.extractField(String.format(RESPONSE, "2024-01-15 10:00:00", "35.5°C"), "time"));
+		Assert.assertEquals("1705312800", ResponseFingerprint.extractField("{\"data\": {\"time\" : 1705312800, \"tables\": []}}", "time"));
+		Assert.assertNull(ResponseFingerprint.extractField("{\"data\":{\"tables\":[]}}", "time"));
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SingleFlightTest includes the unit test for SingleFlight
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class SingleFlightTest {
+	private static final int CALLERS = 8;
+
+	/**
+	 * Test case for concurrent callers sharing one call and its result.
+	 * The call is held until it has started and every other caller is parked waiting for it, so the callers always overlap.
+	 */
+	@Test
+	void testConcurrentCallersShareOneCall() throws Exception {
+		SingleFlight singleFlight = new SingleFlight();
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch arrived = new CountDownLatch(CALLERS - 1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Thread> waitingCallers = Collections.synchronizedList(new ArrayList<>());
+		ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+		try {
+			Callable<String> call = () -> {
+				calls.incrementAndGet();
+				started.countDown();
+				release.await();
+				return "tree";
+			};
+			List<Future<String>> results = new ArrayList<>();
+			results.add(executor.submit(() -> singleFlight.execute("api/tree", call)));
+			Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+			for (int i = 1; i < CALLERS; i++) {
+				results.add(executor.submit(() -> {
+					waitingCallers.add(Thread.currentThread());
+					arrived.countDown();
+					return singleFlight.execute("api/tree", call);
+				}));
+			}
+			Assert.assertTrue(arrived.await(5, TimeUnit.SECONDS));
+			for (Thread caller : waitingCallers) {
+				while (caller.getState() != Thread.State.WAITING) {
+					Thread.yield();
+				}
+			}
+			release.countDown();
+			for (Future<String> result : results) {
+				Assert.assertEquals("tree", result.get(5, TimeUnit.SECONDS));
+			}
+			Assert.assertEquals(1, calls.get());
+			Assert.assertEquals("about", singleFlight.execute("api/tree", () -> "about"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test case for the exception of the call being thrown to the caller.
+	 */
+	@Test
+	void testExceptionIsPropagated() {
+		SingleFlight singleFlight = new SingleFlight();
+		try {
+			singleFlight.execute("api/authenticate", () -> {
+				throw new IllegalStateException("401");
+			});
+			Assert.fail();
+		} catch (Exception e) {
+			Assert.assertTrue(e instanceof IllegalStateException);
+		}
+	}
+}
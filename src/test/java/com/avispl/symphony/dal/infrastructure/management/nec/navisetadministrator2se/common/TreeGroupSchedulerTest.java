@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TreeGroupSchedulerTest includes the unit test for TreeGroupScheduler
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TreeGroupSchedulerTest {
+	private static final long NOW = 10_000_000L;
+
+	/**
+	 * Test case for resolving the closest folder with a policy
+	 */
+	@Test
+	void testResolveGroup() {
+		TreeGroupScheduler scheduler = new TreeGroupScheduler("Lobby:60:3, Back Office:3600");
+		Assert.assertEquals("Lobby", scheduler.resolveGroup(Arrays.asList("Building A", "Lobby", "North")));
+		Assert.assertEquals("", scheduler.resolveGroup(Collections.singletonList("Building A")));
+		Assert.assertEquals(3600000L, scheduler.getRefreshInterval("Back Office"));
+		Assert.assertEquals(0L, scheduler.getRefreshInterval(""));
+	}
+
+	/**
+	 * Test case for splitting the cycle budget between groups by their shares
+	 */
+	@Test
+	void testSelectIsFairBetweenGroups() {
+		TreeGroupScheduler scheduler = new TreeGroupScheduler("Lobby:60:3,Back Office:60:1");
+		Map<String, List<String>> groupPaths = new HashMap<>();
+		List<String> refreshOrder = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			String deviceId = "office" + i;
+			groupPaths.put(deviceId, Collections.singletonList("Back Office"));
+			refreshOrder.add(deviceId);
+		}
+		for (int i = 0; i < 10; i++) {
+			String deviceId = "lobby" + i;
+			groupPaths.put(deviceId, Collections.singletonList("Lobby"));
+			refreshOrder.add(deviceId);
+		}
+		List<String> selected = scheduler.select(refreshOrder, groupPaths::get, deviceId -> 0L, 8, NOW);
+		Assert.assertEquals(8, selected.size());
+		Assert.assertEquals(6, selected.stream().filter(deviceId -> deviceId.startsWith("lobby")).count());
+	}
+
+	/**
+	 * Test case for skipping devices refreshed within the interval of their group
+	 */
+	@Test
+	void testSelectSkipsDevicesNotDue() {
+		TreeGroupScheduler scheduler = new TreeGroupScheduler("Back Office:3600");
+		Map<String, List<String>> groupPaths = new HashMap<>();
+		groupPaths.put("office", Collections.singletonList("Back Office"));
+		groupPaths.put("other", Collections.emptyList());
+		List<String> selected = scheduler.select(Arrays.asList("office", "other"), groupPaths::get, deviceId -> NOW - 60000, 8, NOW);
+		Assert.assertEquals(Collections.singletonList("other"), selected);
+	}
+
+	/**
+	 * Test case for rejecting malformed policies
+	 */
+	@Test
+	void testInvalidPolicy() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TreeGroupScheduler("Lobby"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TreeGroupScheduler("Lobby:60:0"));
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.FleetStatisticsAggregator.PowerClass;
+
+/**
+ * FleetStatisticsAggregatorTest includes the unit test for FleetStatisticsAggregator
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FleetStatisticsAggregatorTest {
+
+	/**
+	 * Test case for counts, temperatures and totals across devices.
+	 */
+	@Test
+	void testAggregation() {
+		FleetStatisticsAggregator aggregator = new FleetStatisticsAggregator();
+		aggregator.update("1", PowerClass.ONLINE, temperatures(35.5), 10, 100);
+		aggregator.update("2", PowerClass.ONLINE, temperatures(40), 5, Double.NaN);
+		aggregator.update("3", PowerClass.OFFLINE, temperatures(Double.NaN), Double.NaN, 50);
+
+		Assert.assertEquals(2, aggregator.getCount(PowerClass.ONLINE));
+		Assert.assertEquals(1, aggregator.getCount(PowerClass.OFFLINE));
+		Assert.assertEquals(2, aggregator.getTemperatureCount(DynamicStatisticsDefinition.TEMPERATURE1));
+		Assert.assertEquals(35.5, aggregator.getMinTemperature(DynamicStatisticsDefinition.TEMPERATURE1), 0);
+		Assert.assertEquals(40, aggregator.getMaxTemperature(DynamicStatisticsDefinition.TEMPERATURE1), 0);
+		Assert.assertEquals(37.75, aggregator.getAverageTemperature(DynamicStatisticsDefinition.TEMPERATURE1), 1e-9);
+		Assert.assertEquals(15, aggregator.getTotalCarbonSavings(), 1e-9);
+		Assert.assertEquals(150, aggregator.getTotalPanelHours(), 1e-9);
+	}
+
+	/**
+	 * Test case for a device update replacing its previous contribution.
+	 */
+	@Test
+	void testUpdateReplacesContribution() {
+		FleetStatisticsAggregator aggregator = new FleetStatisticsAggregator();
+		aggregator.update("1", PowerClass.ONLINE, temperatures(50), 10, 100);
+		aggregator.update("2", PowerClass.ONLINE, temperatures(30), 10, 100);
+		aggregator.update("1", PowerClass.STANDBY, temperatures(20), 12, 101);
+
+		Assert.assertEquals(1, aggregator.getCount(PowerClass.ONLINE));
+		Assert.assertEquals(1, aggregator.getCount(PowerClass.STANDBY));
+		Assert.assertEquals(20, aggregator.getMinTemperature(DynamicStatisticsDefinition.TEMPERATURE1), 0);
+		Assert.assertEquals(30, aggregator.getMaxTemperature(DynamicStatisticsDefinition.TEMPERATURE1), 0);
+		Assert.assertEquals(22, aggregator.getTotalCarbonSavings(), 1e-9);
+		Assert.assertEquals(201, aggregator.getTotalPanelHours(), 1e-9);
+
+		aggregator.clear();
+		Assert.assertEquals(0, aggregator.getCount(PowerClass.ONLINE));
+		Assert.assertTrue(Double.isNaN(aggregator.getMaxTemperature(DynamicStatisticsDefinition.TEMPERATURE1)));
+	}
+
+	/**
+	 * Builds a temperature array with the intake temperature set and every other temperature missing.
+	 *
+	 * @param intake The intake temperature.
+	 * @return the temperature array
+	 */
+	private double[] temperatures(double intake) {
+		double[] temperatures = new double[DynamicStatisticsDefinition.values().length];
+		Arrays.fill(temperatures, Double.NaN);
+		temperatures[DynamicStatisticsDefinition.TEMPERATURE1.ordinal()] = intake;
+		return temperatures;
+	}
+}
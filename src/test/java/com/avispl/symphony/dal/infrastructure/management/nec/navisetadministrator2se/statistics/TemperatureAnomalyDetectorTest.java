@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nec.navisetadministrator2se.statistics.TemperatureAnomalyDetector.Anomaly;
+
+/**
+ * TemperatureAnomalyDetectorTest includes the unit test for TemperatureAnomalyDetector
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TemperatureAnomalyDetectorTest {
+	private static final long MINUTE = 60000;
+
+	/**
+	 * Test case for a reading far away from the device's own history.
+	 */
+	@Test
+	void testSpike() {
+		TemperatureAnomalyDetector detector = new TemperatureAnomalyDetector();
+		for (int i = 0; i < 10; i++) {
+			detector.update("1", "M1", intake(35 + (i % 2) * 0.2), i * 10 * MINUTE);
+		}
+		Assert.assertEquals(Anomaly.NONE, detector.getAnomaly("1", DynamicStatisticsDefinition.TEMPERATURE1));
+		Assert.assertEquals(35.1, detector.getBaseline("1", DynamicStatisticsDefinition.TEMPERATURE1), 0.2);
+
+		detector.update("1", "M1", intake(48), 100 * MINUTE);
+		Assert.assertEquals(Anomaly.SPIKE, detector.getAnomaly("1", DynamicStatisticsDefinition.TEMPERATURE1));
+		Assert.assertNull(detector.getAnomaly("1", DynamicStatisticsDefinition.TEMPERATURE2));
+	}
+
+	/**
+	 * Test case for a device running hotter than the other devices of its model.
+	 */
+	@Test
+	void testPeerOutlier() {
+		TemperatureAnomalyDetector detector = new TemperatureAnomalyDetector();
+		detector.update("1", "M1", intake(35), 0);
+		detector.update("2", "M1", intake(35.5), 0);
+		detector.update("3", "M1", intake(34.5), 0);
+		detector.update("4", "M1", intake(45), 0);
+		detector.update("5", "M2", intake(45), 0);
+
+		Assert.assertEquals(Anomaly.PEER, detector.getAnomaly("4", DynamicStatisticsDefinition.TEMPERATURE1));
+		Assert.assertEquals(Anomaly.NONE, detector.getAnomaly("1", DynamicStatisticsDefinition.TEMPERATURE1));
+		Assert.assertEquals(Anomaly.NONE, detector.getAnomaly("5", DynamicStatisticsDefinition.TEMPERATURE1));
+	}
+
+	/**
+	 * Builds a temperature array with the intake temperature set and every other temperature missing.
+	 *
+	 * @param intake The intake temperature.
+	 * @return the temperature array
+	 */
+	private double[] intake(double intake) {
+		double[] temperatures = new double[DynamicStatisticsDefinition.values().length];
+		Arrays.fill(temperatures, Double.NaN);
+		temperatures[DynamicStatisticsDefinition.TEMPERATURE1.ordinal()] = intake;
+		return temperatures;
+	}
+}